@@ -34,6 +34,11 @@ public final class Constants {
     public static final int FIVE = 5;
     public static final String W_200 = "w200";
     public static final String W_500 = "w500";
+    public static final String RECOMMENDATIONS_CACHE = "recommendations";
+    public static final String VIBE_CACHE = "mediaByVibe";
+    public static final String GALLERY_CACHE = "gallery";
+    public static final String MEDIA_JSON_CACHE = "mediaJson";
+    public static final String SEARCH_CACHE = "mediaSearch";
 
     private Constants() {
 
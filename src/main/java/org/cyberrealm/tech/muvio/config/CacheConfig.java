@@ -0,0 +1,39 @@
+package org.cyberrealm.tech.muvio.config;
+
+import static org.cyberrealm.tech.muvio.common.Constants.GALLERY_CACHE;
+import static org.cyberrealm.tech.muvio.common.Constants.MEDIA_JSON_CACHE;
+import static org.cyberrealm.tech.muvio.common.Constants.RECOMMENDATIONS_CACHE;
+import static org.cyberrealm.tech.muvio.common.Constants.SEARCH_CACHE;
+import static org.cyberrealm.tech.muvio.common.Constants.VIBE_CACHE;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheConfig {
+    private static final List<CacheSpec> CACHE_SPECS = List.of(
+            new CacheSpec(MEDIA_JSON_CACHE, 5000, Duration.ofHours(12)),
+            new CacheSpec(RECOMMENDATIONS_CACHE, 200, Duration.ofHours(1)),
+            new CacheSpec(VIBE_CACHE, 2000, Duration.ofMinutes(5)),
+            new CacheSpec(GALLERY_CACHE, 2000, Duration.ofMinutes(30)),
+            new CacheSpec(SEARCH_CACHE, 2000, Duration.ofMinutes(5))
+    );
+
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> caffeineCacheManagerCustomizer() {
+        return cacheManager -> CACHE_SPECS.forEach(spec -> cacheManager.registerCustomCache(
+                spec.name(), Caffeine.newBuilder()
+                        .maximumSize(spec.maximumSize())
+                        .expireAfterWrite(spec.timeToLive())
+                        .recordStats()
+                        .build()));
+    }
+
+    private record CacheSpec(String name, long maximumSize, Duration timeToLive) {
+    }
+}
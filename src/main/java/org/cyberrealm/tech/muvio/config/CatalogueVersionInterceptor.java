@@ -0,0 +1,56 @@
+package org.cyberrealm.tech.muvio.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import lombok.RequiredArgsConstructor;
+import org.cyberrealm.tech.muvio.service.CatalogueService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@Component
+@RequiredArgsConstructor
+public class CatalogueVersionInterceptor implements HandlerInterceptor {
+    static final String ETAG_ATTRIBUTE = CatalogueVersionInterceptor.class.getName() + ".etag";
+    static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofHours(1))
+            .cachePublic();
+    private static final String ETAG_FORMAT = "\"catalogue-%d\"";
+    private static final String ETAG_SEPARATOR = ",";
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY_ETAG = "*";
+    private final CatalogueService catalogueService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
+                             Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod())
+                && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+        final String etag = String.format(ETAG_FORMAT, catalogueService.getVersion());
+        if (isNotModified(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL.getHeaderValue());
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return false;
+        }
+        request.setAttribute(ETAG_ATTRIBUTE, etag);
+        return true;
+    }
+
+    private boolean isNotModified(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        return Arrays.stream(ifNoneMatch.split(ETAG_SEPARATOR))
+                .map(String::trim)
+                .map(tag -> tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length())
+                        : tag)
+                .anyMatch(tag -> ANY_ETAG.equals(tag) || etag.equals(tag));
+    }
+}
@@ -0,0 +1,30 @@
+package org.cyberrealm.tech.muvio.config;
+
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MediaWriteLock {
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public void runExclusively(Runnable task) {
+        lock.lock();
+        try {
+            task.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean tryRunExclusively(Runnable task) {
+        if (!lock.tryLock()) {
+            return false;
+        }
+        try {
+            task.run();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
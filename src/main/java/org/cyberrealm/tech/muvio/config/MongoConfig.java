@@ -0,0 +1,25 @@
+package org.cyberrealm.tech.muvio.config;
+
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MongoConfig {
+    @Value("${mongo.pool.max-size:100}")
+    private int maxPoolSize;
+    @Value("${mongo.pool.min-size:10}")
+    private int minPoolSize;
+    @Value("${mongo.pool.max-wait-millis:2000}")
+    private long maxWaitMillis;
+
+    @Bean
+    public MongoClientSettingsBuilderCustomizer connectionPoolCustomizer() {
+        return builder -> builder.applyToConnectionPoolSettings(pool -> pool
+                .maxSize(maxPoolSize)
+                .minSize(minPoolSize)
+                .maxWaitTime(maxWaitMillis, TimeUnit.MILLISECONDS));
+    }
+}
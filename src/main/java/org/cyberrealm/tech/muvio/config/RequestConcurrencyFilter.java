@@ -0,0 +1,62 @@
+package org.cyberrealm.tech.muvio.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+@Component
+public class RequestConcurrencyFilter extends OncePerRequestFilter {
+    private static final String RETRY_AFTER_SECONDS = "1";
+    private static final String OVERLOADED = "Too many concurrent requests";
+    private final Semaphore permits;
+    private final long maxWaitMillis;
+    private final String actuatorBasePath;
+
+    public RequestConcurrencyFilter(
+            @Value("${mongo.pool.max-size:100}") int mongoPoolMaxSize,
+            @Value("${request.concurrency.per-mongo-connection:4}") int requestsPerConnection,
+            @Value("${request.concurrency.max-wait-millis:1000}") long maxWaitMillis,
+            @Value("${management.endpoints.web.base-path:/actuator}") String actuatorBasePath) {
+        this.permits = new Semaphore(mongoPoolMaxSize * requestsPerConnection, true);
+        this.maxWaitMillis = maxWaitMillis;
+        this.actuatorBasePath = actuatorBasePath;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getServletPath().startsWith(actuatorBasePath);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+        final boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), OVERLOADED);
+            return;
+        }
+        if (!acquired) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+            response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), OVERLOADED);
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.cyberrealm.tech.muvio.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "top-lists")
+public class TopListRulesProperties {
+    private int size = 100;
+    private Rule iconic = Rule.builder().minRating(7.0).minVoteCount(1000).minPopularity(4.0)
+            .minReleaseYear(2001).build();
+    private Rule blockbusters = Rule.builder().minRating(7.0).minVoteCount(1000)
+            .minPopularity(4.0).maxYearsAgo(10).minRevenue(50_000_000L).minProfitRatio(2.0)
+            .build();
+    private Rule superhero = Rule.builder().keyword("superhero").minRating(7.0).build();
+    private Rule topRated = Rule.builder().minRating(8.0).minVoteCount(1000).minYearsAgo(1)
+            .build();
+    private Rule oscarWinning = Rule.builder().awardWinner(true).build();
+    private Rule emmyWinning = Rule.builder().awardWinner(true).build();
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rule {
+        private Double minRating;
+        private Integer minVoteCount;
+        private Double minPopularity;
+        private Integer minReleaseYear;
+        private Integer maxYearsAgo;
+        private Integer minYearsAgo;
+        private Long minRevenue;
+        private Double minProfitRatio;
+        private String keyword;
+        private Boolean awardWinner;
+    }
+}
@@ -1,13 +1,16 @@
 package org.cyberrealm.tech.muvio.config;
 
 import java.util.List;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
     private static final int MAX_PAGE_SIZE = 100000;
     private static final String[] ALLOWED_ORIGINS = {
@@ -20,6 +23,13 @@ public class WebConfig implements WebMvcConfigurer {
     private static final String ALLOWED_PATH_PATTERN = "/**";
     private static final String ALLOWED_HEADERS = "*";
     private static final boolean ALLOW_CREDENTIALS = true;
+    private static final String VERSIONED_PATH_PATTERN = "/media/**";
+    private static final String[] RANDOMISED_PATH_PATTERNS = {
+            "/media/luck/**",
+            "/media/posters",
+            "/media/vibe"
+    };
+    private final CatalogueVersionInterceptor catalogueVersionInterceptor;
 
     @Override
     public void addCorsMappings(CorsRegistry registry) {
@@ -30,6 +40,13 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(ALLOW_CREDENTIALS);
     }
 
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(catalogueVersionInterceptor)
+                .addPathPatterns(VERSIONED_PATH_PATTERN)
+                .excludePathPatterns(RANDOMISED_PATH_PATTERNS);
+    }
+
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         PageableHandlerMethodArgumentResolver resolver
@@ -1,25 +1,43 @@
 package org.cyberrealm.tech.muvio.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.cyberrealm.tech.muvio.dto.CatalogueStatisticsDto;
 import org.cyberrealm.tech.muvio.dto.MainPageInfoDto;
 import org.cyberrealm.tech.muvio.dto.MediaBaseDto;
+import org.cyberrealm.tech.muvio.dto.MediaBatchDto;
+import org.cyberrealm.tech.muvio.dto.MediaBatchRequestDto;
 import org.cyberrealm.tech.muvio.dto.MediaDto;
 import org.cyberrealm.tech.muvio.dto.MediaDtoWithCast;
 import org.cyberrealm.tech.muvio.dto.MediaDtoWithPoints;
 import org.cyberrealm.tech.muvio.dto.MediaGalleryRequestDto;
+import org.cyberrealm.tech.muvio.dto.MediaSearchDto;
+import org.cyberrealm.tech.muvio.dto.MediaSearchRequestDto;
 import org.cyberrealm.tech.muvio.dto.MediaVibeRequestDto;
 import org.cyberrealm.tech.muvio.dto.PosterDto;
+import org.cyberrealm.tech.muvio.dto.SerializedMedia;
 import org.cyberrealm.tech.muvio.dto.TitleDto;
+import org.cyberrealm.tech.muvio.service.MediaJsonService;
 import org.cyberrealm.tech.muvio.service.MediaService;
+import org.cyberrealm.tech.muvio.service.StatisticsService;
+import org.cyberrealm.tech.muvio.util.ContentEncodings;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -31,6 +49,8 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class MediaController {
     private final MediaService mediaService;
+    private final MediaJsonService mediaJsonService;
+    private final StatisticsService statisticsService;
 
     @GetMapping("/{id}")
     @Operation(
@@ -38,8 +58,31 @@ public class MediaController {
             description = "Retrieve detailed information of a media resource by its "
                     + "unique identifier"
     )
-    public MediaDto getMediaById(@PathVariable String id) {
-        return mediaService.getMediaById(id);
+    @ApiResponse(responseCode = "200", content = @Content(
+            mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = MediaDto.class)))
+    public ResponseEntity<byte[]> getMediaById(@PathVariable String id,
+                                               @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING,
+                                                       required = false) String acceptEncoding) {
+        final SerializedMedia media = mediaJsonService.getSerializedMediaById(id);
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (ContentEncodings.acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, ContentEncodings.GZIP)
+                    .body(media.gzip());
+        }
+        return response.body(media.json());
+    }
+
+    @PostMapping("/batch")
+    @Operation(
+            summary = "Get media by IDs",
+            description = "Retrieve media resources for a list of identifiers in request order "
+                    + "and report the identifiers that were not found"
+    )
+    public MediaBatchDto getMediaByIds(@RequestBody @Valid MediaBatchRequestDto requestDto) {
+        return mediaService.getMediaByIds(requestDto.ids());
     }
 
     @GetMapping("/all")
@@ -64,7 +107,10 @@ public class MediaController {
     @Operation(
             summary = "Get media by vibe criteria",
             description = "Retrieve a paginated slice of media items based on vibe "
-                    + "filtering parameters"
+                    + "filtering parameters. The affinity ranking includes every media "
+                    + "scoring for the vibe and orders it by its vibe score and rating. Media "
+                    + "stored before vibe scores were recorded are left out of the affinity "
+                    + "ranking until they are reclassified"
     )
     public Slice<MediaDtoWithPoints> getAllMediaByVibe(
             @Valid MediaVibeRequestDto requestDto) {
@@ -81,6 +127,19 @@ public class MediaController {
         return mediaService.getAllForGallery(requestDto, pageable);
     }
 
+    @GetMapping("/search")
+    @Operation(
+            summary = "Search media with facet counts",
+            description = "Retrieve a page of media matching the filters together with the "
+                    + "amount of matching media per type, genre, vibe, category, top list "
+                    + "and decade. Each facet is counted with its own filter left out, so "
+                    + "the counts show what selecting another value would return. Sorting "
+                    + "is supported by title, rating, releaseYear and id"
+    )
+    public MediaSearchDto search(MediaSearchRequestDto requestDto, Pageable pageable) {
+        return mediaService.search(requestDto, pageable);
+    }
+
     @GetMapping("/luck/{size}")
     @Operation(
             summary = "Get random media selection",
@@ -147,4 +206,14 @@ public class MediaController {
     public MainPageInfoDto getMainPageInfo() {
         return mediaService.getMainPageInfo();
     }
+
+    @GetMapping("/statistics/facets")
+    @Operation(
+            summary = "Provide facet counts for the media filters",
+            description = "Provide the amount of media per type, genre, vibe, category, top list "
+                    + "and decade"
+    )
+    public CatalogueStatisticsDto getStatistics() {
+        return statisticsService.getStatistics();
+    }
 }
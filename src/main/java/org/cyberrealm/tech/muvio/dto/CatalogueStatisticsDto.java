@@ -0,0 +1,9 @@
+package org.cyberrealm.tech.muvio.dto;
+
+import java.util.Map;
+
+public record CatalogueStatisticsDto(long mediaCount, long actorCount, Map<String, Long> types,
+                                     Map<String, Long> genres, Map<String, Long> vibes,
+                                     Map<String, Long> categories, Map<String, Long> topLists,
+                                     Map<String, Long> decades) {
+}
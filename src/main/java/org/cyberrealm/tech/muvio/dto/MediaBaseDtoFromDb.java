@@ -0,0 +1,7 @@
+package org.cyberrealm.tech.muvio.dto;
+
+import org.cyberrealm.tech.muvio.model.MediaDisplay;
+
+public record MediaBaseDtoFromDb(String id, String title, Double rating, String posterPath,
+                                 Integer releaseYear, MediaDisplay display) {
+}
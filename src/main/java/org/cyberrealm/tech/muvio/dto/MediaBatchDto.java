@@ -0,0 +1,6 @@
+package org.cyberrealm.tech.muvio.dto;
+
+import java.util.List;
+
+public record MediaBatchDto(List<MediaDto> media, List<String> missingIds) {
+}
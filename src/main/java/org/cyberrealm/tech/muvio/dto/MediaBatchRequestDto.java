@@ -0,0 +1,9 @@
+package org.cyberrealm.tech.muvio.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record MediaBatchRequestDto(@NotEmpty @Size(max = 100) List<@NotBlank String> ids) {
+}
@@ -0,0 +1,17 @@
+package org.cyberrealm.tech.muvio.dto;
+
+import java.util.List;
+import java.util.Set;
+import org.cyberrealm.tech.muvio.model.GenreEntity;
+import org.cyberrealm.tech.muvio.model.MediaDisplay;
+import org.cyberrealm.tech.muvio.model.Review;
+import org.cyberrealm.tech.muvio.model.RoleActor;
+import org.cyberrealm.tech.muvio.model.Type;
+
+public record MediaDtoWithPointsFromDb(
+        String id, String title, Set<GenreEntity> genres, Double rating,
+        String trailer, String posterPath, Integer duration,
+        String director, Set<String> photos, List<RoleActor> actors,
+        List<Review> reviews, Integer releaseYear, List<String> countries,
+        String overview, Type type, Integer points, MediaDisplay display) {
+}
@@ -0,0 +1,8 @@
+package org.cyberrealm.tech.muvio.dto;
+
+import java.util.Map;
+
+public record MediaFacetsFromDb(long total, Map<String, Long> types, Map<String, Long> genres,
+                                Map<String, Long> vibes, Map<String, Long> categories,
+                                Map<String, Long> topLists, Map<String, Long> decades) {
+}
@@ -0,0 +1,7 @@
+package org.cyberrealm.tech.muvio.dto;
+
+import java.util.List;
+
+public record MediaSearchDto(List<MediaBaseDto> content, int page, int size, long totalElements,
+                             MediaFacetsDto facets) {
+}
@@ -0,0 +1,6 @@
+package org.cyberrealm.tech.muvio.dto;
+
+import java.util.List;
+
+public record MediaSearchFromDb(List<MediaBaseDtoFromDb> content, MediaFacetsFromDb facets) {
+}
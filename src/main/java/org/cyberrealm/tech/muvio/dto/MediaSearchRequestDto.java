@@ -0,0 +1,11 @@
+package org.cyberrealm.tech.muvio.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Set;
+
+public record MediaSearchRequestDto(
+        String title, String vibe, String years, String type,
+        @Schema(type = "string", example = "category1, category2, ...etc") Set<String> categories,
+        @Schema(type = "string", example = "genre1, genre2, ...etc") Set<String> genres
+) {
+}
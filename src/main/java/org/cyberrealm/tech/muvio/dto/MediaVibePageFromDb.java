@@ -0,0 +1,7 @@
+package org.cyberrealm.tech.muvio.dto;
+
+import java.util.List;
+
+public record MediaVibePageFromDb(List<MediaDtoWithPointsFromDb> top,
+                                  List<MediaDtoWithPointsFromDb> content, long total) {
+}
@@ -9,6 +9,7 @@ public record MediaVibeRequestDto(
         @NotNull @NotBlank String vibe,
         String years, String type,
         @Schema(type = "string", example = "category1, category2, ...etc") Set<String> categories,
+        @Schema(type = "string", example = "match, affinity") String ranking,
         Integer page, Integer size
 ) {
 }
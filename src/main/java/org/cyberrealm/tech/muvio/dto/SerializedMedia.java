@@ -0,0 +1,4 @@
+package org.cyberrealm.tech.muvio.dto;
+
+public record SerializedMedia(byte[] json, byte[] gzip) {
+}
@@ -0,0 +1,4 @@
+package org.cyberrealm.tech.muvio.dto;
+
+public record TopListCandidateFromDb(String id, Double rating, Integer voteCount) {
+}
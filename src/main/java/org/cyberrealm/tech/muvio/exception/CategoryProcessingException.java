@@ -1,7 +0,0 @@
-package org.cyberrealm.tech.muvio.exception;
-
-public class CategoryProcessingException extends RuntimeException {
-    public CategoryProcessingException(String message, Throwable cause) {
-        super(message, cause);
-    }
-}
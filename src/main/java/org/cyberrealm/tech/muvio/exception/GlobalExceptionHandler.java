@@ -1,5 +1,8 @@
 package org.cyberrealm.tech.muvio.exception;
 
+import com.mongodb.MongoTimeoutException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -28,14 +31,6 @@ public class GlobalExceptionHandler {
                 .body(exception.getMessage());
     }
 
-    @ExceptionHandler(CategoryProcessingException.class)
-    public ResponseEntity<Object> handleCategoryProcessingException(
-            CategoryProcessingException exception) {
-        return ResponseEntity
-                .status(HttpStatus.INTERNAL_SERVER_ERROR)
-                .body(exception.getMessage());
-    }
-
     @ExceptionHandler(MediaProcessingException.class)
     public ResponseEntity<Object> handleMovieProcessingException(
             MediaProcessingException exception) {
@@ -52,6 +47,14 @@ public class GlobalExceptionHandler {
                 .body(exception.getMessage());
     }
 
+    @ExceptionHandler({DataAccessResourceFailureException.class, MongoTimeoutException.class})
+    public ResponseEntity<Object> handleDatabaseUnavailableException(Exception exception) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(exception.getMessage());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> handleGeneralException(Exception exception) {
         return ResponseEntity
@@ -6,8 +6,6 @@ import static org.cyberrealm.tech.muvio.common.Constants.ONE;
 import static org.cyberrealm.tech.muvio.common.Constants.ROUNDING_FACTOR;
 import static org.cyberrealm.tech.muvio.common.Constants.SHORT_DURATION;
 import static org.cyberrealm.tech.muvio.common.Constants.TEN;
-import static org.cyberrealm.tech.muvio.common.Constants.UNDERSCORE;
-import static org.cyberrealm.tech.muvio.common.Constants.WHITE_SPACE;
 import static org.cyberrealm.tech.muvio.common.Constants.W_200;
 import static org.cyberrealm.tech.muvio.common.Constants.W_500;
 import static org.cyberrealm.tech.muvio.common.Constants.ZERO;
@@ -18,17 +16,20 @@ import info.movito.themoviedbapi.model.tv.series.TvSeriesDb;
 import java.time.Year;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import org.cyberrealm.tech.muvio.config.MapperConfig;
 import org.cyberrealm.tech.muvio.dto.MediaBaseDto;
+import org.cyberrealm.tech.muvio.dto.MediaBaseDtoFromDb;
 import org.cyberrealm.tech.muvio.dto.MediaDto;
 import org.cyberrealm.tech.muvio.dto.MediaDtoFromDb;
 import org.cyberrealm.tech.muvio.dto.MediaDtoWithCast;
 import org.cyberrealm.tech.muvio.dto.MediaDtoWithCastFromDb;
 import org.cyberrealm.tech.muvio.dto.MediaDtoWithPoints;
-import org.cyberrealm.tech.muvio.model.Category;
+import org.cyberrealm.tech.muvio.dto.MediaDtoWithPointsFromDb;
+import org.cyberrealm.tech.muvio.dto.MediaFacetsDto;
+import org.cyberrealm.tech.muvio.dto.MediaFacetsFromDb;
 import org.cyberrealm.tech.muvio.model.Media;
+import org.cyberrealm.tech.muvio.model.MediaDisplay;
 import org.cyberrealm.tech.muvio.model.Type;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -38,10 +39,10 @@ import org.mapstruct.Named;
 public interface MediaMapper {
 
     @Mapping(source = "actors", target = "actors", qualifiedByName = "toActorDto")
-    @Mapping(source = "duration", target = "duration", qualifiedByName = "toDuration")
-    @Mapping(source = "genres", target = "genres", qualifiedByName = "toStringGenres")
-    @Mapping(source = "type", target = "type", qualifiedByName = "toCorrectType")
-    @Mapping(source = "posterPath", target = "posterPath", qualifiedByName = "changePoster")
+    @Mapping(source = "display.duration", target = "duration")
+    @Mapping(source = "display.genres", target = "genres")
+    @Mapping(source = "display.type", target = "type")
+    @Mapping(source = "display.posterPath", target = "posterPath")
     MediaDto toMovieDto(MediaDtoFromDb movie);
 
     @Mapping(target = "id", expression = "java(String.valueOf(movieDb.getId()))")
@@ -71,23 +72,34 @@ public interface MediaMapper {
     Media toEntity(TvSeriesDb tvSeriesDb);
 
     @Mapping(source = "actors", target = "actors", qualifiedByName = "toListActors")
-    @Mapping(source = "duration", target = "duration", qualifiedByName = "toDuration")
-    @Mapping(source = "genres", target = "genres", qualifiedByName = "toStringGenres")
+    @Mapping(source = "display.duration", target = "duration")
+    @Mapping(source = "display.genres", target = "genres")
     MediaDtoWithCast toMediaDtoWithCast(MediaDtoWithCastFromDb movie);
 
-    @Mapping(source = "media.actors", target = "actors", qualifiedByName = "toActorDto")
-    @Mapping(source = "media.duration", target = "duration", qualifiedByName = "toDuration")
-    @Mapping(target = "points", expression = "java(calculatePoints(media, categories))")
-    @Mapping(source = "media.genres", target = "genres",
-            qualifiedByName = "fromGenreEntityToString")
-    @Mapping(source = "media.type", target = "type", qualifiedByName = "fromTypeToString")
-    @Mapping(source = "media.posterPath", target = "posterPath", qualifiedByName = "changePoster")
-    MediaDtoWithPoints toMediaDtoWithPoints(Media media, Set<String> categories);
+    @Mapping(source = "actors", target = "actors", qualifiedByName = "toActorDto")
+    @Mapping(source = "display.duration", target = "duration")
+    @Mapping(source = "display.genres", target = "genres")
+    @Mapping(source = "display.type", target = "type")
+    @Mapping(source = "display.posterPath", target = "posterPath")
+    MediaDtoWithPoints toMediaDtoWithPoints(MediaDtoWithPointsFromDb media);
+
+    @Mapping(source = "display.duration", target = "duration")
+    @Mapping(source = "display.genres", target = "genres")
+    @Mapping(source = "display.type", target = "type")
+    MediaBaseDto toMediaBaseDto(Media media);
+
+    @Mapping(source = "display.duration", target = "duration")
+    @Mapping(source = "display.genres", target = "genres")
+    @Mapping(source = "display.type", target = "type")
+    MediaBaseDto toMediaBaseDto(MediaBaseDtoFromDb media);
+
+    MediaFacetsDto toMediaFacetsDto(MediaFacetsFromDb facets);
 
     @Mapping(source = "duration", target = "duration", qualifiedByName = "toDuration")
     @Mapping(source = "genres", target = "genres", qualifiedByName = "fromGenreEntityToString")
     @Mapping(source = "type", target = "type", qualifiedByName = "fromTypeToString")
-    MediaBaseDto toMediaBaseDto(Media media);
+    @Mapping(source = "posterPath", target = "posterPath", qualifiedByName = "changePoster")
+    MediaDisplay toMediaDisplay(Media media);
 
     @Named("toDuration")
     default String toDuration(Integer duration) {
@@ -97,18 +109,6 @@ public interface MediaMapper {
                 : String.format("%02dm", minutes);
     }
 
-    default int calculatePoints(Media media, Set<String> categories) {
-        int points = ZERO;
-        if (categories != null && !categories.isEmpty()) {
-            for (Category category : media.getCategories()) {
-                if (categories.contains(category.name())) {
-                    points++;
-                }
-            }
-        }
-        return points;
-    }
-
     @Named("getReleaseYear")
     default Integer getReleaseYear(String releaseDate) {
         return Optional.ofNullable(releaseDate).filter(date -> date.length() == TEN)
@@ -145,11 +145,6 @@ public interface MediaMapper {
                 .toList();
     }
 
-    @Named("toCorrectType")
-    default String toCorrectType(String type) {
-        return Type.fromString(type.replace(UNDERSCORE, WHITE_SPACE)).getName();
-    }
-
     @Named("fromTypeToString")
     default String fromTypeToString(Type type) {
         return type.getName();
@@ -0,0 +1,17 @@
+package org.cyberrealm.tech.muvio.mapper;
+
+import org.cyberrealm.tech.muvio.config.MapperConfig;
+import org.cyberrealm.tech.muvio.dto.CatalogueStatisticsDto;
+import org.cyberrealm.tech.muvio.dto.MediaFacetsFromDb;
+import org.cyberrealm.tech.muvio.model.CatalogueStatistics;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MapperConfig.class)
+public interface StatisticsMapper {
+    CatalogueStatisticsDto toDto(CatalogueStatistics statistics);
+
+    @Mapping(source = "facets.total", target = "mediaCount")
+    @Mapping(target = "updatedAt", expression = "java(java.time.Instant.now())")
+    CatalogueStatistics toEntity(String id, MediaFacetsFromDb facets, long actorCount);
+}
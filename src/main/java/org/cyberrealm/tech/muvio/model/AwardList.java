@@ -0,0 +1,8 @@
+package org.cyberrealm.tech.muvio.model;
+
+public enum AwardList {
+    IMDB_TOP_250_MOVIES,
+    OSCAR_WINNING_MOVIES,
+    IMDB_TOP_250_TV_SHOWS,
+    EMMY_WINNING_TV_SHOWS
+}
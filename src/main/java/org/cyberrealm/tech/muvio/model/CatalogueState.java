@@ -0,0 +1,19 @@
+package org.cyberrealm.tech.muvio.model;
+
+import java.time.Instant;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "catalogue")
+public class CatalogueState {
+    @Id
+    private String id;
+    private long version;
+    private Instant updatedAt;
+}
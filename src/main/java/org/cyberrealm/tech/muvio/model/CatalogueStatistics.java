@@ -0,0 +1,27 @@
+package org.cyberrealm.tech.muvio.model;
+
+import java.time.Instant;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "catalogueStatistics")
+public class CatalogueStatistics {
+    @Id
+    private String id;
+    private long mediaCount;
+    private long actorCount;
+    private Map<String, Long> types;
+    private Map<String, Long> genres;
+    private Map<String, Long> vibes;
+    private Map<String, Long> categories;
+    private Map<String, Long> topLists;
+    private Map<String, Long> decades;
+    private Instant updatedAt;
+}
@@ -0,0 +1,19 @@
+package org.cyberrealm.tech.muvio.model;
+
+import java.util.List;
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ClassificationInput {
+    private List<String> keywords;
+    private Integer voteCount;
+    private Double popularity;
+    private Integer budget;
+    private Long revenue;
+    private Set<String> contentRatings;
+}
@@ -2,6 +2,7 @@ package org.cyberrealm.tech.muvio.model;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -35,6 +36,9 @@ public class Media {
     private List<RoleActor> actors;
     private List<Review> reviews;
     private Set<Vibe> vibes = new HashSet<>();
+    private Map<Vibe, Integer> vibeScores;
     private Set<Category> categories = new HashSet<>();
     private Set<TopLists> topLists;
+    private MediaDisplay display;
+    private ClassificationInput classificationInput;
 }
@@ -0,0 +1,16 @@
+package org.cyberrealm.tech.muvio.model;
+
+import java.util.Set;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MediaDisplay {
+    private String duration;
+    private String posterPath;
+    private String type;
+    private Set<String> genres;
+}
@@ -0,0 +1,14 @@
+package org.cyberrealm.tech.muvio.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RankedMedia {
+    private String mediaId;
+    private int rank;
+    private double score;
+}
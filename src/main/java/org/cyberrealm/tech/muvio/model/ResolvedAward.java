@@ -0,0 +1,13 @@
+package org.cyberrealm.tech.muvio.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResolvedAward {
+    private String title;
+    private String mediaId;
+}
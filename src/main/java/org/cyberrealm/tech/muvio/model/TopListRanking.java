@@ -0,0 +1,20 @@
+package org.cyberrealm.tech.muvio.model;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "topListRankings")
+public class TopListRanking {
+    @Id
+    private String id;
+    private List<RankedMedia> media;
+    private Instant updatedAt;
+}
@@ -0,0 +1,5 @@
+package org.cyberrealm.tech.muvio.model;
+
+public enum VibeRanking {
+    MATCH, AFFINITY
+}
@@ -0,0 +1,9 @@
+package org.cyberrealm.tech.muvio.repository;
+
+import org.cyberrealm.tech.muvio.model.AwardResolution;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AwardResolutionRepository extends MongoRepository<AwardResolution, String> {
+}
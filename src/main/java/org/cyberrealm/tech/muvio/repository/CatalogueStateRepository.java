@@ -0,0 +1,9 @@
+package org.cyberrealm.tech.muvio.repository;
+
+import org.cyberrealm.tech.muvio.model.CatalogueState;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CatalogueStateRepository extends MongoRepository<CatalogueState, String> {
+}
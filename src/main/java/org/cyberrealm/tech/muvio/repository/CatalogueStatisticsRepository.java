@@ -0,0 +1,10 @@
+package org.cyberrealm.tech.muvio.repository;
+
+import org.cyberrealm.tech.muvio.model.CatalogueStatistics;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CatalogueStatisticsRepository
+        extends MongoRepository<CatalogueStatistics, String> {
+}
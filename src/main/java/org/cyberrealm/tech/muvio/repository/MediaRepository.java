@@ -1,9 +1,10 @@
 package org.cyberrealm.tech.muvio.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import org.cyberrealm.tech.muvio.dto.MediaBaseDto;
+import org.cyberrealm.tech.muvio.dto.MediaBaseDtoFromDb;
 import org.cyberrealm.tech.muvio.dto.MediaDtoFromDb;
 import org.cyberrealm.tech.muvio.dto.MediaDtoWithCastFromDb;
 import org.cyberrealm.tech.muvio.dto.PosterDto;
@@ -30,25 +31,33 @@ public interface MediaRepository extends MongoRepository<Media, String>, MediaRe
             "{ '$match': { 'type': ?0, 'genres': ?1, 'releaseYear': { $gte: ?2 } } }",
             "{ '$sort': { 'rating': -1 } }"
     })
-    Slice<MediaBaseDto> findMoviesByTypeGenreAndYears(Type type, GenreEntity genre, int minYear,
-                                                      Pageable pageable);
+    Slice<MediaBaseDtoFromDb> findMoviesByTypeGenreAndYears(Type type, GenreEntity genre,
+                                                            int minYear, Pageable pageable);
 
     Optional<MediaDtoFromDb> findMovieById(String id);
 
-    Slice<MediaDtoWithCastFromDb> findByTopListsContaining(String topList, Pageable pageable);
+    @Query(value = "{ '_id': { '$in': ?0 } }", fields = "{ 'id': 1, 'title': 1, "
+            + "'releaseYear': 1, 'genres': 1, 'rating': 1, 'posterPath': 1, 'duration': 1, "
+            + "'director': 1, 'actors.actor.name': 1, 'display': 1 }")
+    List<MediaDtoWithCastFromDb> findWithCastByIdIn(Collection<String> ids);
 
     @Aggregation(pipeline = {
             "{ '$sample': { 'size': ?0 } }"
     })
     List<PosterDto> getRandomPosters(int size);
 
+    @Query(value = "{}", fields = "{ 'id': 1, 'posterPath': 1 }")
+    List<PosterDto> findAllPosters();
+
+    List<MediaDtoFromDb> findMoviesByIdIn(Collection<String> ids);
+
     @Query(value = "{}", fields = "{ 'id': 1, 'title': 1 }")
     Slice<TitleDto> findAllTitles(Pageable pageable);
 
     @Query("{'title': { '$regex': ?0, '$options': 'i' } }")
-    Slice<MediaBaseDto> findByTitle(String title, Pageable pageable);
+    Slice<MediaBaseDtoFromDb> findByTitle(String title, Pageable pageable);
 
-    @Query(value = "{}", fields = "{ 'id': 1, 'title': 1, 'genres': 1, 'rating': 1, "
-            + "'posterPath': 1, 'duration': 1, 'releaseYear': 1, 'type': 1 }")
-    List<MediaBaseDto> getAll(Pageable pageable);
+    @Query(value = "{}", fields = "{ 'id': 1, 'title': 1, 'rating': 1, 'posterPath': 1, "
+            + "'releaseYear': 1, 'display': 1 }")
+    List<MediaBaseDtoFromDb> getAll(Pageable pageable);
 }
@@ -1,13 +1,33 @@
 package org.cyberrealm.tech.muvio.repository;
 
 import java.util.List;
+import org.cyberrealm.tech.muvio.dto.MediaFacetsFromDb;
 import org.cyberrealm.tech.muvio.dto.MediaGalleryRequestDto;
+import org.cyberrealm.tech.muvio.dto.MediaSearchFromDb;
+import org.cyberrealm.tech.muvio.dto.MediaSearchRequestDto;
+import org.cyberrealm.tech.muvio.dto.MediaVibePageFromDb;
 import org.cyberrealm.tech.muvio.dto.MediaVibeRequestDto;
+import org.cyberrealm.tech.muvio.dto.TopListCandidateFromDb;
 import org.cyberrealm.tech.muvio.model.Media;
 import org.springframework.data.domain.Pageable;
 
 public interface MediaRepositoryCustom {
-    List<Media> getAllMediaByVibes(MediaVibeRequestDto query);
+    MediaVibePageFromDb getAllMediaByVibes(MediaVibeRequestDto requestDto, Pageable pageable,
+                                           int topSize);
 
     List<Media> getAllForGallery(MediaGalleryRequestDto requestDto, Pageable pageable);
+
+    MediaFacetsFromDb countFacets();
+
+    MediaSearchFromDb search(MediaSearchRequestDto requestDto, Pageable pageable);
+
+    List<Media> findClassificationInputs(String afterId, int limit);
+
+    void updateClassifications(List<Media> media);
+
+    List<TopListCandidateFromDb> findTopListCandidates(String topList);
+
+    List<Media> findMediaWithoutDisplay(String afterId, int limit);
+
+    void updateDisplays(List<Media> media);
 }
@@ -0,0 +1,9 @@
+package org.cyberrealm.tech.muvio.repository;
+
+import org.cyberrealm.tech.muvio.model.TopListRanking;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TopListRankingRepository extends MongoRepository<TopListRanking, String> {
+}
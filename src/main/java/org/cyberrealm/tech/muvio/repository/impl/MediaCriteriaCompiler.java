@@ -0,0 +1,176 @@
+package org.cyberrealm.tech.muvio.repository.impl;
+
+import static org.cyberrealm.tech.muvio.common.Constants.NINE;
+import static org.cyberrealm.tech.muvio.common.Constants.ONE;
+import static org.cyberrealm.tech.muvio.common.Constants.TITLE;
+import static org.cyberrealm.tech.muvio.common.Constants.ZERO;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.bson.Document;
+import org.cyberrealm.tech.muvio.dto.MediaGalleryRequestDto;
+import org.cyberrealm.tech.muvio.dto.MediaSearchRequestDto;
+import org.cyberrealm.tech.muvio.dto.MediaVibeRequestDto;
+import org.cyberrealm.tech.muvio.model.Type;
+import org.cyberrealm.tech.muvio.model.Vibe;
+import org.cyberrealm.tech.muvio.model.VibeRanking;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+final class MediaCriteriaCompiler {
+    private static final int MAX_COMPILED_CRITERIA = 1024;
+    private static final String SPLIT_PATTERN = "-";
+    private static final String VIBES = "vibes";
+    private static final String CATEGORIES = "categories";
+    private static final String GENRES = "genres";
+    private static final String REGEX_FLAG_IGNORE_CASE = "i";
+    private static final String RELEASE_YEAR = "releaseYear";
+    private static final String TYPE = "type";
+    private static final String CATEGORIES_REFERENCE = "$categories";
+    private static final String VIBE_SCORES = "vibeScores.";
+    private final Cache<CriteriaKey, Criteria> compiledCriteria = Caffeine.newBuilder()
+            .maximumSize(MAX_COMPILED_CRITERIA)
+            .build();
+
+    Criteria compile(MediaVibeRequestDto requestDto) {
+        return getCriteria(new CriteriaKey(requestDto.vibe().toUpperCase(), null,
+                getType(requestDto.type()), getYears(requestDto.years()),
+                getCategories(requestDto.categories()), Set.of(),
+                getRanking(requestDto.ranking())));
+    }
+
+    Criteria compile(MediaGalleryRequestDto requestDto) {
+        return getCriteria(new CriteriaKey(null, getTitle(requestDto.title()),
+                getType(requestDto.type()), getYears(requestDto.years()), Set.of(), Set.of(),
+                VibeRanking.MATCH));
+    }
+
+    Criteria compile(MediaSearchRequestDto requestDto) {
+        return getCriteria(new CriteriaKey(getVibe(requestDto.vibe()),
+                getTitle(requestDto.title()), getType(requestDto.type()),
+                getYears(requestDto.years()), getCategories(requestDto.categories()),
+                getCategories(requestDto.genres()), VibeRanking.MATCH));
+    }
+
+    Document compilePoints(MediaVibeRequestDto requestDto) {
+        final Set<String> categories = getCategories(requestDto.categories());
+        if (categories.isEmpty()) {
+            return new Document("$literal", ZERO);
+        }
+        return new Document("$size", new Document("$setIntersection", List.of(
+                new Document("$ifNull", List.of(CATEGORIES_REFERENCE, List.of())),
+                List.copyOf(categories))));
+    }
+
+    String compileVibeScore(MediaVibeRequestDto requestDto) {
+        if (getRanking(requestDto.ranking()) != VibeRanking.AFFINITY) {
+            return null;
+        }
+        return getVibeScore(requestDto.vibe().toUpperCase());
+    }
+
+    private Criteria getCriteria(CriteriaKey key) {
+        if (key.title() != null) {
+            return buildCriteria(key);
+        }
+        return compiledCriteria.get(key, this::buildCriteria);
+    }
+
+    private Criteria buildCriteria(CriteriaKey key) {
+        Criteria criteria = new Criteria();
+        final String vibeScore = key.ranking() == VibeRanking.AFFINITY
+                ? getVibeScore(key.vibe()) : null;
+        if (vibeScore != null) {
+            criteria = criteria.and(vibeScore).gt(ZERO);
+        } else if (key.vibe() != null) {
+            criteria = criteria.and(VIBES).is(key.vibe());
+        }
+        if (key.type() != null) {
+            criteria = criteria.and(TYPE).is(key.type());
+        }
+        if (key.years() != null) {
+            criteria = criteria.and(RELEASE_YEAR).gte(key.years().from()).lte(key.years().to());
+        }
+        if (!key.categories().isEmpty()) {
+            criteria = criteria.and(CATEGORIES).in(key.categories());
+        }
+        if (!key.genres().isEmpty()) {
+            criteria = criteria.and(GENRES).all(key.genres());
+        }
+        if (key.title() != null) {
+            criteria = criteria.and(TITLE).regex(Pattern.quote(key.title()),
+                    REGEX_FLAG_IGNORE_CASE);
+        }
+        return criteria;
+    }
+
+    private String getVibe(String vibe) {
+        return Optional.ofNullable(vibe)
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .map(String::toUpperCase)
+                .orElse(null);
+    }
+
+    private String getVibeScore(String vibe) {
+        return Arrays.stream(Vibe.values())
+                .filter(element -> element.name().equals(vibe))
+                .findFirst()
+                .map(element -> VIBE_SCORES + element.name())
+                .orElse(null);
+    }
+
+    private VibeRanking getRanking(String ranking) {
+        return Optional.ofNullable(ranking)
+                .map(String::trim)
+                .flatMap(item -> Arrays.stream(VibeRanking.values())
+                        .filter(element -> element.name().equalsIgnoreCase(item))
+                        .findFirst())
+                .orElse(VibeRanking.MATCH);
+    }
+
+    private String getTitle(String title) {
+        return Optional.ofNullable(title)
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .orElse(null);
+    }
+
+    private Type getType(String type) {
+        return Optional.ofNullable(type)
+                .map(String::trim)
+                .flatMap(item -> Arrays.stream(Type.values())
+                        .filter(element -> element.name().equalsIgnoreCase(item))
+                        .findFirst())
+                .orElse(null);
+    }
+
+    private YearRange getYears(String years) {
+        return Optional.ofNullable(years)
+                .map(String::trim)
+                .filter(year -> year.length() == NINE && year.contains(SPLIT_PATTERN))
+                .map(year -> year.split(SPLIT_PATTERN))
+                .map(yearArray -> new YearRange(Integer.parseInt(yearArray[ZERO]),
+                        Integer.parseInt(yearArray[ONE])))
+                .orElse(null);
+    }
+
+    private Set<String> getCategories(Set<String> categories) {
+        return categories != null
+                ? categories.stream().map(String::toUpperCase).collect(Collectors.toSet())
+                : Set.of();
+    }
+
+    private record YearRange(int from, int to) {
+    }
+
+    private record CriteriaKey(String vibe, String title, Type type, YearRange years,
+                               Set<String> categories, Set<String> genres,
+                               VibeRanking ranking) {
+    }
+}
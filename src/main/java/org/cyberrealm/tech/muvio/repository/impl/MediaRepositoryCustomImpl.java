@@ -1,103 +1,371 @@
 package org.cyberrealm.tech.muvio.repository.impl;
 
-import static org.cyberrealm.tech.muvio.common.Constants.NINE;
 import static org.cyberrealm.tech.muvio.common.Constants.ONE;
+import static org.cyberrealm.tech.muvio.common.Constants.RATING;
+import static org.cyberrealm.tech.muvio.common.Constants.TEN;
 import static org.cyberrealm.tech.muvio.common.Constants.TITLE;
 import static org.cyberrealm.tech.muvio.common.Constants.ZERO;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
-import java.util.regex.Pattern;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.cyberrealm.tech.muvio.dto.MediaBaseDtoFromDb;
+import org.cyberrealm.tech.muvio.dto.MediaDtoWithPointsFromDb;
+import org.cyberrealm.tech.muvio.dto.MediaFacetsFromDb;
 import org.cyberrealm.tech.muvio.dto.MediaGalleryRequestDto;
+import org.cyberrealm.tech.muvio.dto.MediaSearchFromDb;
+import org.cyberrealm.tech.muvio.dto.MediaSearchRequestDto;
+import org.cyberrealm.tech.muvio.dto.MediaVibePageFromDb;
 import org.cyberrealm.tech.muvio.dto.MediaVibeRequestDto;
+import org.cyberrealm.tech.muvio.dto.TopListCandidateFromDb;
 import org.cyberrealm.tech.muvio.model.Media;
-import org.cyberrealm.tech.muvio.model.Type;
 import org.cyberrealm.tech.muvio.repository.MediaRepositoryCustom;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperationContext;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Repository;
 
 @Repository
 @RequiredArgsConstructor
 public class MediaRepositoryCustomImpl implements MediaRepositoryCustom {
-    private static final String SPLIT_PATTERN = "-";
+    private static final String POINTS = "points";
+    private static final String TOTAL = "total";
+    private static final String CONTENT = "content";
+    private static final String TOP = "top";
+    private static final String COUNT = "count";
+    private static final String ID = "_id";
+    private static final String DISPLAY = "display";
+    private static final String TYPES = "types";
+    private static final String GENRES = "genres";
     private static final String VIBES = "vibes";
     private static final String CATEGORIES = "categories";
-    private static final String REGEX_FLAG_IGNORE_CASE = "i";
-    private static final String RELEASE_YEAR = "releaseYear";
-    private static final String TYPE = "type";
-    private static final String REGEX_ANY = ".*";
-    private static final String REGEX_ANCHOR_START = "^";
-    private static final String REGEX_ANCHOR_END = "$";
+    private static final String TOP_LISTS = "topLists";
+    private static final String VIBE_SCORES = "vibeScores";
+    private static final String DECADES = "decades";
+    private static final String RELEASE_YEAR = "$releaseYear";
+    private static final String ID_PROPERTY = "id";
+    private static final String CLASSIFICATION_INPUT = "classificationInput";
+    private static final String VOTE_COUNT = "voteCount";
+    private static final int DESCENDING = -1;
+    private static final int ASCENDING = 1;
+    private static final int INCLUDE = 1;
+    private static final Document VIBE_PROJECTION = new Document(TITLE, INCLUDE)
+            .append("genres", INCLUDE)
+            .append(RATING, INCLUDE)
+            .append("trailer", INCLUDE)
+            .append("posterPath", INCLUDE)
+            .append("duration", INCLUDE)
+            .append("director", INCLUDE)
+            .append("photos", INCLUDE)
+            .append("actors", INCLUDE)
+            .append("reviews", INCLUDE)
+            .append("releaseYear", INCLUDE)
+            .append("countries", INCLUDE)
+            .append("overview", INCLUDE)
+            .append("type", INCLUDE)
+            .append(POINTS, INCLUDE)
+            .append(DISPLAY, INCLUDE);
+    private static final String[] AFFINITY_FIELDS = VIBE_PROJECTION.keySet().stream()
+            .filter(field -> !POINTS.equals(field))
+            .toArray(String[]::new);
+    private static final String[] GALLERY_FIELDS = {
+            TITLE, RATING, "posterPath", "releaseYear", DISPLAY
+    };
+    private static final Document SEARCH_PROJECTION = new Document(TITLE, INCLUDE)
+            .append(RATING, INCLUDE)
+            .append("posterPath", INCLUDE)
+            .append("releaseYear", INCLUDE)
+            .append(DISPLAY, INCLUDE);
+    private static final Set<String> SEARCH_SORT_PROPERTIES = Set.of(TITLE, RATING,
+            "releaseYear", ID_PROPERTY);
+    private static final String[] CLASSIFICATION_FIELDS = {
+            TITLE, "overview", RATING, "releaseYear", "type", GENRES, CLASSIFICATION_INPUT
+    };
+    private static final String[] DISPLAY_FIELDS = {
+            "duration", "posterPath", "type", GENRES
+    };
+    private static final Sort DEFAULT_SEARCH_SORT = Sort.by(Sort.Direction.DESC, RATING)
+            .and(Sort.by(Sort.Direction.ASC, ID));
+    private static final Document FACETS = new Document(TOTAL,
+            List.of(new Document("$count", COUNT)))
+            .append(TYPES, countBy("$type"))
+            .append(GENRES, countByElement(GENRES))
+            .append(VIBES, countByElement(VIBES))
+            .append(CATEGORIES, countByElement(CATEGORIES))
+            .append(TOP_LISTS, countByElement(TOP_LISTS))
+            .append(DECADES, List.of(
+                    new Document("$match", new Document("releaseYear",
+                            new Document("$type", "number"))),
+                    countBy(new Document("$subtract", List.of(RELEASE_YEAR,
+                            new Document("$mod", List.of(RELEASE_YEAR, TEN))))).getFirst()));
     private final MongoTemplate mongoTemplate;
+    private final MediaCriteriaCompiler criteriaCompiler = new MediaCriteriaCompiler();
 
     @Override
-    public List<Media> getAllMediaByVibes(MediaVibeRequestDto requestDto) {
-        final Query query = new Query();
-        addCriteriaYears(requestDto.years(), query);
-        addCriteriaType(requestDto.type(), query);
-        Optional.ofNullable(requestDto.categories())
-                .filter(category -> !category.isEmpty())
-                .ifPresent(category ->
-                        query.addCriteria(Criteria.where(CATEGORIES).in(getCategories(category))));
-        query.addCriteria(Criteria.where(VIBES).is(requestDto.vibe().toUpperCase()));
-        return mongoTemplate.find(query, Media.class);
+    public MediaVibePageFromDb getAllMediaByVibes(MediaVibeRequestDto requestDto,
+                                                  Pageable pageable, int topSize) {
+        final Document points = criteriaCompiler.compilePoints(requestDto);
+        final String vibeScore = criteriaCompiler.compileVibeScore(requestDto);
+        if (vibeScore != null) {
+            return getAllMediaByVibeScore(requestDto, vibeScore, points, pageable, topSize);
+        }
+        final Document sort = new Document("$sort", new Document(POINTS, DESCENDING)
+                .append(RATING, DESCENDING)
+                .append(ID, ASCENDING));
+        final Document project = new Document("$project", VIBE_PROJECTION);
+        final Document facets = new Document(TOTAL, List.of(new Document("$count", COUNT)))
+                .append(CONTENT, List.of(sort,
+                        new Document("$skip", pageable.getOffset()),
+                        new Document("$limit", pageable.getPageSize()),
+                        project));
+        if (topSize > ZERO) {
+            facets.append(TOP, List.of(sort, new Document("$limit", topSize), project));
+        }
+        final Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(criteriaCompiler.compile(requestDto)),
+                context -> new Document("$addFields", new Document(POINTS, points)),
+                context -> new Document("$facet", facets));
+        final Document result = mongoTemplate.aggregate(aggregation, Media.class, Document.class)
+                .getUniqueMappedResult();
+        if (result == null) {
+            return new MediaVibePageFromDb(List.of(), List.of(), ZERO);
+        }
+        final List<Document> total = result.getList(TOTAL, Document.class);
+        return new MediaVibePageFromDb(toMediaWithPoints(result.getList(TOP, Document.class,
+                List.of())), toMediaWithPoints(result.getList(CONTENT, Document.class)),
+                total.isEmpty() ? ZERO : total.getFirst().get(COUNT, Number.class).longValue());
     }
 
     @Override
     public List<Media> getAllForGallery(MediaGalleryRequestDto requestDto, Pageable pageable) {
-        final Query query = new Query();
-        Optional.ofNullable(requestDto.title())
-                .map(String::trim)
-                .filter(title -> !title.isEmpty())
-                .ifPresent(
-                        title -> {
-                            String regexPattern = REGEX_ANY + Pattern.quote(title) + REGEX_ANY;
-                            query.addCriteria(Criteria.where(TITLE).regex(regexPattern,
-                                    REGEX_FLAG_IGNORE_CASE));
-                        });
-        addCriteriaType(requestDto.type(), query);
-        addCriteriaYears(requestDto.years(), query);
+        final Query query = new Query(criteriaCompiler.compile(requestDto));
+        query.fields().include(GALLERY_FIELDS);
         query.with(pageable);
         return mongoTemplate.find(query, Media.class);
     }
 
-    private void addCriteriaYears(String years, Query query) {
-        Optional.ofNullable(years)
-                .map(String::trim)
-                .filter(year -> year.length() == NINE && year.contains(SPLIT_PATTERN))
-                .map(year -> Arrays.stream(year.split(SPLIT_PATTERN))
-                        .map(Integer::parseInt)
-                        .toArray(Integer[]::new))
-                .ifPresent(yearArray -> query.addCriteria(
-                        Criteria.where(RELEASE_YEAR)
-                                .gte(yearArray[ZERO])
-                                .lte(yearArray[ONE])));
-    }
-
-    private void addCriteriaType(String type, Query query) {
-        Optional.ofNullable(type)
-                .map(String::trim)
-                .filter(item -> !item.isEmpty())
-                .filter(item -> Arrays.stream(Type.values())
-                        .anyMatch(element -> element.name().equalsIgnoreCase(item)))
-                .ifPresent(validType -> {
-                    String regexPattern = REGEX_ANCHOR_START + Pattern.quote(validType)
-                            + REGEX_ANCHOR_END;
-                    query.addCriteria(Criteria.where(TYPE).regex(regexPattern,
-                            REGEX_FLAG_IGNORE_CASE));
-                });
-    }
-
-    private Set<String> getCategories(Set<String> categories) {
-        return categories != null
-                ? categories.stream().map(String::toUpperCase).collect(Collectors.toSet())
-                : Set.of();
+    @Override
+    public MediaFacetsFromDb countFacets() {
+        final Aggregation aggregation = Aggregation.newAggregation(
+                context -> new Document("$facet", FACETS));
+        return toFacets(mongoTemplate.aggregate(aggregation, Media.class, Document.class)
+                .getUniqueMappedResult());
+    }
+
+    @Override
+    public MediaSearchFromDb search(MediaSearchRequestDto requestDto, Pageable pageable) {
+        final Criteria filters = compileFilters(requestDto.vibe(), requestDto.years(),
+                requestDto.type(), requestDto.categories(), requestDto.genres());
+        final Map<String, Criteria> facetFilters = Map.of(
+                TYPES, compileFilters(requestDto.vibe(), requestDto.years(), null,
+                        requestDto.categories(), requestDto.genres()),
+                GENRES, compileFilters(requestDto.vibe(), requestDto.years(), requestDto.type(),
+                        requestDto.categories(), null),
+                VIBES, compileFilters(null, requestDto.years(), requestDto.type(),
+                        requestDto.categories(), requestDto.genres()),
+                CATEGORIES, compileFilters(requestDto.vibe(), requestDto.years(),
+                        requestDto.type(), null, requestDto.genres()),
+                DECADES, compileFilters(requestDto.vibe(), null, requestDto.type(),
+                        requestDto.categories(), requestDto.genres()));
+        final Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(criteriaCompiler.compile(new MediaSearchRequestDto(
+                        requestDto.title(), null, null, null, null, null))),
+                context -> new Document("$facet", getSearchFacets(filters, facetFilters,
+                        pageable, context)));
+        final Document result = mongoTemplate.aggregate(aggregation, Media.class, Document.class)
+                .getUniqueMappedResult();
+        if (result == null) {
+            return new MediaSearchFromDb(List.of(), toFacets(null));
+        }
+        final List<MediaBaseDtoFromDb> content = result.getList(CONTENT, Document.class)
+                .stream()
+                .map(document -> mongoTemplate.getConverter()
+                        .read(MediaBaseDtoFromDb.class, document))
+                .toList();
+        return new MediaSearchFromDb(content, toFacets(result));
+    }
+
+    @Override
+    public List<Media> findClassificationInputs(String afterId, int limit) {
+        final Criteria criteria = Criteria.where(CLASSIFICATION_INPUT).ne(null);
+        if (afterId != null) {
+            criteria.and(ID).gt(afterId);
+        }
+        final Query query = new Query(criteria)
+                .with(Sort.by(ID_PROPERTY))
+                .limit(limit);
+        query.fields().include(CLASSIFICATION_FIELDS);
+        return mongoTemplate.find(query, Media.class);
+    }
+
+    @Override
+    public void updateClassifications(List<Media> media) {
+        if (media.isEmpty()) {
+            return;
+        }
+        final BulkOperations operations = mongoTemplate.bulkOps(
+                BulkOperations.BulkMode.UNORDERED, Media.class);
+        media.forEach(item -> operations.updateOne(
+                Query.query(Criteria.where(ID).is(item.getId())),
+                new Update().set(CATEGORIES, item.getCategories())
+                        .set(VIBES, item.getVibes())
+                        .set(VIBE_SCORES, item.getVibeScores())
+                        .set(TOP_LISTS, item.getTopLists())));
+        operations.execute();
+    }
+
+    @Override
+    public List<TopListCandidateFromDb> findTopListCandidates(String topList) {
+        final Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where(TOP_LISTS).is(topList)),
+                context -> new Document("$project", new Document(RATING, INCLUDE)
+                        .append(VOTE_COUNT, "$" + CLASSIFICATION_INPUT + "." + VOTE_COUNT)));
+        return mongoTemplate.aggregate(aggregation, Media.class, TopListCandidateFromDb.class)
+                .getMappedResults();
+    }
+
+    @Override
+    public List<Media> findMediaWithoutDisplay(String afterId, int limit) {
+        final Criteria criteria = Criteria.where(DISPLAY).is(null);
+        if (afterId != null) {
+            criteria.and(ID).gt(afterId);
+        }
+        final Query query = new Query(criteria)
+                .with(Sort.by(ID_PROPERTY))
+                .limit(limit);
+        query.fields().include(DISPLAY_FIELDS);
+        return mongoTemplate.find(query, Media.class);
+    }
+
+    @Override
+    public void updateDisplays(List<Media> media) {
+        if (media.isEmpty()) {
+            return;
+        }
+        final BulkOperations operations = mongoTemplate.bulkOps(
+                BulkOperations.BulkMode.UNORDERED, Media.class);
+        media.forEach(item -> operations.updateOne(
+                Query.query(Criteria.where(ID).is(item.getId()).and(DISPLAY).is(null)),
+                new Update().set(DISPLAY, item.getDisplay())));
+        operations.execute();
+    }
+
+    private MediaVibePageFromDb getAllMediaByVibeScore(MediaVibeRequestDto requestDto,
+                                                       String vibeScore, Document points,
+                                                       Pageable pageable, int topSize) {
+        final Criteria criteria = criteriaCompiler.compile(requestDto);
+        final Sort sort = Sort.by(Sort.Direction.DESC, vibeScore, RATING)
+                .and(Sort.by(Sort.Direction.ASC, ID));
+        final String collectionName = mongoTemplate.getCollectionName(Media.class);
+        final List<MediaDtoWithPointsFromDb> top = topSize > ZERO
+                ? findByVibeScore(criteria, sort, points, ZERO, topSize, collectionName)
+                : List.of();
+        final List<MediaDtoWithPointsFromDb> content = findByVibeScore(criteria, sort, points,
+                pageable.getOffset(), pageable.getPageSize(), collectionName);
+        return new MediaVibePageFromDb(top, content,
+                mongoTemplate.count(new Query(criteria), collectionName));
+    }
+
+    private List<MediaDtoWithPointsFromDb> findByVibeScore(Criteria criteria, Sort sort,
+                                                           Document points, long skip,
+                                                           int limit, String collectionName) {
+        final Query query = new Query(criteria)
+                .with(sort)
+                .skip(skip)
+                .limit(limit);
+        query.fields().include(AFFINITY_FIELDS).project(() -> points).as(POINTS);
+        return mongoTemplate.find(query, MediaDtoWithPointsFromDb.class, collectionName);
+    }
+
+    private List<MediaDtoWithPointsFromDb> toMediaWithPoints(List<Document> documents) {
+        return documents.stream()
+                .map(document -> mongoTemplate.getConverter()
+                        .read(MediaDtoWithPointsFromDb.class, document))
+                .toList();
+    }
+
+    private static List<Document> countBy(Object key) {
+        return List.of(new Document("$group", new Document(ID, key)
+                .append(COUNT, new Document("$sum", ONE))));
+    }
+
+    private static List<Document> countByElement(String field) {
+        return List.of(new Document("$unwind", "$" + field), countBy("$" + field).getFirst());
+    }
+
+    private Criteria compileFilters(String vibe, String years, String type,
+                                    Set<String> categories, Set<String> genres) {
+        return criteriaCompiler.compile(new MediaSearchRequestDto(null, vibe, years, type,
+                categories, genres));
+    }
+
+    private Document getSearchFacets(Criteria filters, Map<String, Criteria> facetFilters,
+                                     Pageable pageable, AggregationOperationContext context) {
+        final Document facets = new Document();
+        FACETS.keySet().forEach(facet -> facets.append(facet, withMatch(
+                facetFilters.getOrDefault(facet, filters), FACETS.getList(facet, Document.class),
+                context)));
+        return facets.append(CONTENT, withMatch(filters, List.of(
+                Aggregation.sort(getSearchSort(pageable.getSort())).toDocument(context),
+                new Document("$skip", pageable.getOffset()),
+                new Document("$limit", pageable.getPageSize()),
+                new Document("$project", SEARCH_PROJECTION)), context));
+    }
+
+    private List<Document> withMatch(Criteria criteria, List<Document> stages,
+                                     AggregationOperationContext context) {
+        if (criteria.getCriteriaObject().isEmpty()) {
+            return stages;
+        }
+        final List<Document> pipeline = new ArrayList<>(stages.size() + ONE);
+        pipeline.add(Aggregation.match(criteria).toDocument(context));
+        pipeline.addAll(stages);
+        return pipeline;
+    }
+
+    private Sort getSearchSort(Sort sort) {
+        final List<Sort.Order> orders = sort.stream()
+                .filter(order -> SEARCH_SORT_PROPERTIES.contains(order.getProperty()))
+                .map(order -> ID_PROPERTY.equals(order.getProperty())
+                        ? order.withProperty(ID) : order)
+                .toList();
+        if (orders.isEmpty()) {
+            return DEFAULT_SEARCH_SORT;
+        }
+        final Sort searchSort = Sort.by(orders);
+        return searchSort.getOrderFor(ID) == null
+                ? searchSort.and(Sort.by(Sort.Direction.ASC, ID)) : searchSort;
+    }
+
+    private MediaFacetsFromDb toFacets(Document result) {
+        if (result == null) {
+            return new MediaFacetsFromDb(ZERO, Map.of(), Map.of(), Map.of(), Map.of(), Map.of(),
+                    Map.of());
+        }
+        final List<Document> total = result.getList(TOTAL, Document.class);
+        return new MediaFacetsFromDb(total.isEmpty() ? ZERO
+                : total.getFirst().get(COUNT, Number.class).longValue(),
+                toCounts(result, TYPES), toCounts(result, GENRES), toCounts(result, VIBES),
+                toCounts(result, CATEGORIES), toCounts(result, TOP_LISTS),
+                toCounts(result, DECADES));
+    }
+
+    private Map<String, Long> toCounts(Document result, String facet) {
+        return result.getList(facet, Document.class).stream()
+                .filter(document -> document.get(ID) != null)
+                .collect(Collectors.toMap(document -> String.valueOf(document.get(ID)),
+                        document -> document.get(COUNT, Number.class).longValue(),
+                        Long::sum, TreeMap::new));
     }
 }
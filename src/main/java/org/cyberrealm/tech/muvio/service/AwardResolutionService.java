@@ -0,0 +1,11 @@
+package org.cyberrealm.tech.muvio.service;
+
+import java.util.Set;
+import org.cyberrealm.tech.muvio.model.AwardList;
+import org.cyberrealm.tech.muvio.util.AwardIndex;
+
+public interface AwardResolutionService {
+    void save(AwardList awardList, Set<String> titles, AwardIndex awardIndex);
+
+    AwardIndex getAwardIndex(AwardList awardList);
+}
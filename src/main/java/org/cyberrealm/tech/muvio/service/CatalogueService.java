@@ -0,0 +1,7 @@
+package org.cyberrealm.tech.muvio.service;
+
+public interface CatalogueService {
+    long getVersion();
+
+    void refresh();
+}
@@ -1,12 +1,12 @@
 package org.cyberrealm.tech.muvio.service;
 
-import info.movito.themoviedbapi.model.keywords.Keyword;
-import java.util.List;
+import java.util.BitSet;
 import java.util.Set;
 import org.cyberrealm.tech.muvio.model.Category;
+import org.cyberrealm.tech.muvio.util.AwardIndex;
 
 public interface CategoryService {
-    Set<Category> putCategories(String overview, List<Keyword> keywords, Double rating,
-                                Integer voteCount, Double popularity, Set<String> imdbTop250,
-                                String title);
+    Set<Category> putCategories(String overview, BitSet keywordIds, double rating,
+                                int voteCount, double popularity, AwardIndex imdbTop250,
+                                String id, String title, int releaseYear);
 }
@@ -0,0 +1,9 @@
+package org.cyberrealm.tech.muvio.service;
+
+import java.util.List;
+import org.cyberrealm.tech.muvio.model.Media;
+import org.cyberrealm.tech.muvio.util.AwardIndex;
+
+public interface ClassificationService {
+    void classify(List<Media> media, AwardIndex imdbTop250, AwardIndex winningMedia);
+}
@@ -0,0 +1,11 @@
+package org.cyberrealm.tech.muvio.service;
+
+import java.util.List;
+
+public interface MediaIndexService {
+    void ensureIndexes();
+
+    List<String> findMissingIndexes();
+
+    List<String> findCollectionScans();
+}
@@ -0,0 +1,7 @@
+package org.cyberrealm.tech.muvio.service;
+
+import org.cyberrealm.tech.muvio.dto.SerializedMedia;
+
+public interface MediaJsonService {
+    SerializedMedia getSerializedMediaById(String id);
+}
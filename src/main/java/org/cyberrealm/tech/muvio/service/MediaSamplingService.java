@@ -0,0 +1,13 @@
+package org.cyberrealm.tech.muvio.service;
+
+import java.util.List;
+import java.util.Optional;
+import org.cyberrealm.tech.muvio.dto.PosterDto;
+
+public interface MediaSamplingService {
+    void refresh();
+
+    Optional<List<String>> sampleIds(int size);
+
+    Optional<List<PosterDto>> samplePosters(int size);
+}
@@ -4,10 +4,13 @@ import java.util.List;
 import java.util.Set;
 import org.cyberrealm.tech.muvio.dto.MainPageInfoDto;
 import org.cyberrealm.tech.muvio.dto.MediaBaseDto;
+import org.cyberrealm.tech.muvio.dto.MediaBatchDto;
 import org.cyberrealm.tech.muvio.dto.MediaDto;
 import org.cyberrealm.tech.muvio.dto.MediaDtoWithCast;
 import org.cyberrealm.tech.muvio.dto.MediaDtoWithPoints;
 import org.cyberrealm.tech.muvio.dto.MediaGalleryRequestDto;
+import org.cyberrealm.tech.muvio.dto.MediaSearchDto;
+import org.cyberrealm.tech.muvio.dto.MediaSearchRequestDto;
 import org.cyberrealm.tech.muvio.dto.MediaVibeRequestDto;
 import org.cyberrealm.tech.muvio.dto.PosterDto;
 import org.cyberrealm.tech.muvio.dto.TitleDto;
@@ -18,10 +21,14 @@ public interface MediaService {
 
     MediaDto getMediaById(String id);
 
+    MediaBatchDto getMediaByIds(List<String> ids);
+
     Slice<MediaDtoWithPoints> getAllMediaByVibe(MediaVibeRequestDto requestDto);
 
     Slice<MediaBaseDto> getAllForGallery(MediaGalleryRequestDto requestDto, Pageable pageable);
 
+    MediaSearchDto search(MediaSearchRequestDto requestDto, Pageable pageable);
+
     Set<MediaDto> getAllLuck(int size);
 
     Slice<MediaBaseDto> getRecommendations(int page);
@@ -8,4 +8,6 @@ public interface MediaStorageService {
     void deleteAll();
 
     void saveAll(Map<Integer, Actor> actorStorage, Map<String, Media> mediaStorage);
+
+    void backfillDisplay();
 }
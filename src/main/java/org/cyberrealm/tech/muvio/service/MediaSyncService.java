@@ -4,19 +4,23 @@ import java.util.Map;
 import java.util.Set;
 import org.cyberrealm.tech.muvio.model.Actor;
 import org.cyberrealm.tech.muvio.model.Media;
+import org.cyberrealm.tech.muvio.util.AwardIndex;
 
 public interface MediaSyncService {
 
-    void importMedia(String language, String region, int currentYear, Set<String> imdbTop250,
-                     Set<String> winningMedia, Map<Integer, Actor> actorStorage, Map<String,
+    AwardIndex indexAwards(String language, String region, Set<String> titles,
+                           boolean isMovies);
+
+    void importMedia(String language, String region, int currentYear, AwardIndex imdbTop250,
+                     AwardIndex winningMedia, Map<Integer, Actor> actorStorage, Map<String,
                     Media> mediaStorage, boolean isMovies);
 
     void importByFindingTitles(String language, String region, int currentYear,
                                Map<Integer, Actor> actorStorage, Map<String, Media> mediaStorage,
-                               Set<String> imdbTop250,
-                               Set<String> winningMedia, boolean isMovies);
+                               AwardIndex imdbTop250,
+                               AwardIndex winningMedia, boolean isMovies);
 
-    void importMediaByFilter(String language, int currentYear, Set<String> imdbTop250,
-                             Set<String> winningMedia, Map<String, Media> mediaStorage,
+    void importMediaByFilter(String language, int currentYear, AwardIndex imdbTop250,
+                             AwardIndex winningMedia, Map<String, Media> mediaStorage,
                              Map<Integer, Actor> actorStorage, boolean isMovies);
 }
@@ -0,0 +1,5 @@
+package org.cyberrealm.tech.muvio.service;
+
+public interface ReclassificationService {
+    void reclassify();
+}
@@ -0,0 +1,9 @@
+package org.cyberrealm.tech.muvio.service;
+
+import org.cyberrealm.tech.muvio.dto.CatalogueStatisticsDto;
+
+public interface StatisticsService {
+    CatalogueStatisticsDto getStatistics();
+
+    void refresh();
+}
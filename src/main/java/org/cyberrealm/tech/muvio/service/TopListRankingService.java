@@ -0,0 +1,11 @@
+package org.cyberrealm.tech.muvio.service;
+
+import java.util.List;
+import org.cyberrealm.tech.muvio.dto.MediaDtoWithCast;
+import org.cyberrealm.tech.muvio.model.TopLists;
+
+public interface TopListRankingService {
+    List<MediaDtoWithCast> getRanking(TopLists topList);
+
+    void refresh();
+}
@@ -1,17 +1,18 @@
 package org.cyberrealm.tech.muvio.service;
 
-import info.movito.themoviedbapi.model.keywords.Keyword;
-import java.util.List;
+import java.util.BitSet;
 import java.util.Set;
 import org.cyberrealm.tech.muvio.model.TopLists;
+import org.cyberrealm.tech.muvio.util.AwardIndex;
 
 public interface TopListService {
-    Set<TopLists> putTopLists(List<Keyword> keywords, Double voteAverage, Integer voteCount,
-                              Double popularity, Integer releaseYear,
-                              Set<String> oscarWinningMedia, String title, Integer budget,
-                              Long revenue);
+    Set<TopLists> putTopLists(BitSet keywordIds, double voteAverage, int voteCount,
+                              double popularity, int releaseYear,
+                              AwardIndex oscarWinningMedia, String id, String title,
+                              int budget, long revenue);
 
-    Set<TopLists> putTopListsForTvShow(List<Keyword> keywords, Double voteAverage,
-                                       Integer voteCount, Double popularity, Integer releaseYear,
-                                       Set<String> oscarWinningMedia, String title);
+    Set<TopLists> putTopListsForTvShow(BitSet keywordIds, double voteAverage,
+                                       int voteCount, double popularity, int releaseYear,
+                                       AwardIndex emmyWinningSerials, String id,
+                                       String title);
 }
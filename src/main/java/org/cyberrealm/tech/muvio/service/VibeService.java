@@ -6,4 +6,8 @@ import org.cyberrealm.tech.muvio.model.Vibe;
 
 public interface VibeService {
     Set<Vibe> getVibes(Set<String> ratings, Set<GenreEntity> genresMdb);
+
+    Set<Vibe> getVibes(int[] scores);
+
+    void addScores(Set<String> ratings, Set<GenreEntity> genresMdb, int[] scores);
 }
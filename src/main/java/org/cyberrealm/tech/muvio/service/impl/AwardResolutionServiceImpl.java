@@ -0,0 +1,60 @@
+package org.cyberrealm.tech.muvio.service.impl;
+
+import static org.cyberrealm.tech.muvio.common.Constants.BACK_OFF;
+
+import com.mongodb.MongoSocketReadTimeoutException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.cyberrealm.tech.muvio.model.AwardList;
+import org.cyberrealm.tech.muvio.model.AwardResolution;
+import org.cyberrealm.tech.muvio.model.ResolvedAward;
+import org.cyberrealm.tech.muvio.repository.AwardResolutionRepository;
+import org.cyberrealm.tech.muvio.service.AwardResolutionService;
+import org.cyberrealm.tech.muvio.util.AwardIndex;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class AwardResolutionServiceImpl implements AwardResolutionService {
+    private final AwardResolutionRepository awardResolutionRepository;
+
+    @Override
+    @Retryable(retryFor = {
+            DataAccessResourceFailureException.class, MongoSocketReadTimeoutException.class
+    },
+            backoff = @Backoff(delay = BACK_OFF))
+    public void save(AwardList awardList, Set<String> titles, AwardIndex awardIndex) {
+        final List<ResolvedAward> awards = awardIndex.getResolvedIds().entrySet().stream()
+                .map(entry -> new ResolvedAward(entry.getKey(), entry.getValue()))
+                .toList();
+        awardResolutionRepository.save(new AwardResolution(awardList.name(),
+                List.copyOf(titles), awards, Instant.now()));
+    }
+
+    @Override
+    @Retryable(retryFor = {
+            DataAccessResourceFailureException.class, MongoSocketReadTimeoutException.class
+    },
+            backoff = @Backoff(delay = BACK_OFF))
+    public AwardIndex getAwardIndex(AwardList awardList) {
+        final AwardResolution awardResolution = awardResolutionRepository
+                .findById(awardList.name())
+                .orElseGet(AwardResolution::new);
+        final List<String> titles = Optional.ofNullable(awardResolution.getTitles())
+                .orElse(List.of());
+        final Map<String, String> resolvedIds = Optional.ofNullable(awardResolution.getAwards())
+                .orElse(List.of())
+                .stream()
+                .collect(Collectors.toMap(ResolvedAward::getTitle, ResolvedAward::getMediaId,
+                        (first, second) -> first));
+        return AwardIndex.of(titles, resolvedIds);
+    }
+}
@@ -0,0 +1,78 @@
+package org.cyberrealm.tech.muvio.service.impl;
+
+import static org.cyberrealm.tech.muvio.common.Constants.BACK_OFF;
+import static org.cyberrealm.tech.muvio.common.Constants.ONE;
+
+import com.mongodb.MongoSocketReadTimeoutException;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.cyberrealm.tech.muvio.model.CatalogueState;
+import org.cyberrealm.tech.muvio.repository.CatalogueStateRepository;
+import org.cyberrealm.tech.muvio.service.CatalogueService;
+import org.cyberrealm.tech.muvio.service.MediaSamplingService;
+import org.cyberrealm.tech.muvio.service.StatisticsService;
+import org.cyberrealm.tech.muvio.service.TopListRankingService;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogueServiceImpl implements CatalogueService {
+    private static final String CATALOGUE_ID = "catalogue";
+    private static final long INITIAL_VERSION = 0L;
+    private final CatalogueStateRepository catalogueStateRepository;
+    private final MediaSamplingService mediaSamplingService;
+    private final StatisticsService statisticsService;
+    private final TopListRankingService topListRankingService;
+    private final CacheManager cacheManager;
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Long version;
+
+    @Override
+    public long getVersion() {
+        final Long currentVersion = version;
+        if (currentVersion != null) {
+            return currentVersion;
+        }
+        final long storedVersion = catalogueStateRepository.findById(CATALOGUE_ID)
+                .map(CatalogueState::getVersion)
+                .orElse(INITIAL_VERSION);
+        version = storedVersion;
+        return storedVersion;
+    }
+
+    @Override
+    @Retryable(retryFor = {
+            DataAccessResourceFailureException.class, MongoSocketReadTimeoutException.class
+    },
+            backoff = @Backoff(delay = BACK_OFF))
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            mediaSamplingService.refresh();
+            statisticsService.refresh();
+            topListRankingService.refresh();
+            final long nextVersion = catalogueStateRepository.findById(CATALOGUE_ID)
+                    .map(CatalogueState::getVersion)
+                    .orElse(INITIAL_VERSION) + ONE;
+            catalogueStateRepository.save(new CatalogueState(CATALOGUE_ID, nextVersion,
+                    Instant.now()));
+            version = nextVersion;
+            cacheManager.getCacheNames().stream()
+                    .map(cacheManager::getCache)
+                    .filter(Objects::nonNull)
+                    .forEach(Cache::clear);
+            log.info("Catalogue refreshed to version {}", nextVersion);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+}
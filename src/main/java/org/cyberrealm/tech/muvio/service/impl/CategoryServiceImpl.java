@@ -4,34 +4,33 @@ import static org.cyberrealm.tech.muvio.common.Constants.ONE;
 import static org.cyberrealm.tech.muvio.common.Constants.TWO;
 import static org.cyberrealm.tech.muvio.common.Constants.ZERO;
 
-import info.movito.themoviedbapi.model.core.NamedIdElement;
-import info.movito.themoviedbapi.model.keywords.Keyword;
+import java.util.BitSet;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ForkJoinPool;
-import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
-import org.cyberrealm.tech.muvio.exception.CategoryProcessingException;
 import org.cyberrealm.tech.muvio.model.Category;
 import org.cyberrealm.tech.muvio.service.CategoryService;
+import org.cyberrealm.tech.muvio.util.AwardIndex;
+import org.cyberrealm.tech.muvio.util.KeywordDictionary;
+import org.cyberrealm.tech.muvio.util.KeywordMatcher;
 import org.springframework.stereotype.Service;
 
 @Service
-@RequiredArgsConstructor
 public class CategoryServiceImpl implements CategoryService {
-    private static final int LIMIT_THREADS =
-            Math.min(50, Runtime.getRuntime().availableProcessors() * 3);
-    private static final String BEFORE_KEYWORD = ".*\\b";
-    private static final String AFTER_KEYWORD = "\\b.*";
     private static final int POPULARITY_LIMIT = 4;
     private static final int VOTE_COUNT_LIMIT = 1000;
     private static final int RATING_LIMIT = 7;
     private static final Map<Category, Set<String>> CATEGORY_KEYWORDS = new HashMap<>();
+    private static final Category[] CATEGORIES = Category.values();
+    private static final Map<String, Set<Category>> OVERVIEW_KEYWORDS = new LinkedHashMap<>();
+    private static final KeywordMatcher OVERVIEW_MATCHER;
+    private final Category[][] keywordCategories;
+    private final BitSet categoryKeywordIds = new BitSet();
+    private final int[] overviewKeywordIds;
 
     static {
         CATEGORY_KEYWORDS.put(Category.BASED_ON_A_TRUE_STORY, new HashSet<>(Set.of(
@@ -493,51 +492,77 @@ public class CategoryServiceImpl implements CategoryService {
                 "sports fame", "fierce rivalry", "record breaker", "physical endurance",
                 "story of champions", "real sports stories", "triumph and defeat",
                 "sports impact on life")));
+        CATEGORY_KEYWORDS.forEach((category, keywords) -> keywords.forEach(keyword ->
+                OVERVIEW_KEYWORDS.computeIfAbsent(keyword,
+                        key -> EnumSet.noneOf(Category.class)).add(category)));
+        OVERVIEW_MATCHER = new KeywordMatcher(List.copyOf(OVERVIEW_KEYWORDS.keySet()));
+    }
+
+    public CategoryServiceImpl(KeywordDictionary keywordDictionary) {
+        final List<String> keywords = List.copyOf(OVERVIEW_KEYWORDS.keySet());
+        overviewKeywordIds = new int[keywords.size()];
+        for (int index = ZERO; index < keywords.size(); index++) {
+            overviewKeywordIds[index] = keywordDictionary.register(keywords.get(index));
+            categoryKeywordIds.set(overviewKeywordIds[index]);
+        }
+        keywordCategories = new Category[categoryKeywordIds.length()][];
+        for (int index = ZERO; index < keywords.size(); index++) {
+            keywordCategories[overviewKeywordIds[index]] = OVERVIEW_KEYWORDS
+                    .get(keywords.get(index)).toArray(Category[]::new);
+        }
     }
 
     @Override
     public Set<Category> putCategories(
-            String overview, List<Keyword> keywords, Double rating, Integer voteCount,
-            Double popularity, Set<String> imdbTop250, String title) {
-        final Set<Category> categories = collectCategories(keywords.stream()
-                .map(NamedIdElement::getName).collect(Collectors.toSet()), overview);
+            String overview, BitSet keywordIds, double rating, int voteCount,
+            double popularity, AwardIndex imdbTop250, String id, String title,
+            int releaseYear) {
+        final Set<Category> categories = collectCategories(keywordIds, overview);
         if (rating >= RATING_LIMIT && voteCount >= VOTE_COUNT_LIMIT
                 && popularity >= POPULARITY_LIMIT) {
             categories.add(Category.MUST_WATCH_LIST);
         }
-        if (imdbTop250.contains(title)) {
+        if (imdbTop250.contains(id, title, releaseYear)) {
             categories.add(Category.IMD_TOP_250);
-            imdbTop250.remove(title);
         }
         return categories;
     }
 
-    private Set<Category> collectCategories(Set<String> movieKeywords, String overview) {
-        final Map<Category, Integer> categoryCount = new ConcurrentHashMap<>();
-        try (final ForkJoinPool pool = new ForkJoinPool(LIMIT_THREADS)) {
-            pool.submit(() -> CATEGORY_KEYWORDS.forEach((category, keywords) ->
-                    keywords.parallelStream().forEach(keyword -> {
-                        if (movieKeywords.contains(keyword)) {
-                            categoryCount.merge(category, TWO, Integer::sum);
-                        }
-                        if (overview.matches(BEFORE_KEYWORD + keyword + AFTER_KEYWORD)) {
-                            categoryCount.merge(category, ONE, Integer::sum);
-                        }
-                    }))).get();
-        } catch (ExecutionException | InterruptedException e) {
-            throw new CategoryProcessingException(
-                    "Failed to process keywords with custom thread pool", e);
+    private Set<Category> collectCategories(BitSet keywordIds, String overview) {
+        final BitSet keywordMatches = (BitSet) categoryKeywordIds.clone();
+        keywordMatches.and(keywordIds);
+        final BitSet overviewMatches = OVERVIEW_MATCHER.findWords(overview);
+        final BitSet overviewMatchIds = new BitSet(keywordCategories.length);
+        for (int index = overviewMatches.nextSetBit(ZERO); index >= ZERO;
+                index = overviewMatches.nextSetBit(index + ONE)) {
+            overviewMatchIds.set(overviewKeywordIds[index]);
+        }
+        final int[] scores = new int[CATEGORIES.length];
+        addScores(scores, keywordMatches, TWO);
+        addScores(scores, overviewMatchIds, ONE);
+        int maxScore = ZERO;
+        for (int score : scores) {
+            maxScore = Math.max(maxScore, score);
         }
-        final Set<Category> categories;
-        final Integer maxCategoryValue = categoryCount.values().stream()
-                .max(Integer::compareTo).orElse(ZERO);
-        if (maxCategoryValue > ZERO) {
-            categories = categoryCount.entrySet().stream()
-                    .filter(about -> about.getValue().equals(maxCategoryValue))
-                    .map(Map.Entry::getKey).collect(Collectors.toSet());
-        } else {
-            categories = new HashSet<>(Set.of(Category.LIFE_CHANGING_MOVIES));
+        final Set<Category> categories = EnumSet.noneOf(Category.class);
+        if (maxScore == ZERO) {
+            categories.add(Category.LIFE_CHANGING_MOVIES);
+            return categories;
+        }
+        for (int category = ZERO; category < scores.length; category++) {
+            if (scores[category] == maxScore) {
+                categories.add(CATEGORIES[category]);
+            }
         }
         return categories;
     }
+
+    private void addScores(int[] scores, BitSet matches, int points) {
+        for (int keyword = matches.nextSetBit(ZERO); keyword >= ZERO;
+                keyword = matches.nextSetBit(keyword + ONE)) {
+            for (Category category : keywordCategories[keyword]) {
+                scores[category.ordinal()] += points;
+            }
+        }
+    }
 }
@@ -0,0 +1,133 @@
+package org.cyberrealm.tech.muvio.service.impl;
+
+import static org.cyberrealm.tech.muvio.common.Constants.ZERO;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import org.cyberrealm.tech.muvio.model.Category;
+import org.cyberrealm.tech.muvio.model.ClassificationInput;
+import org.cyberrealm.tech.muvio.model.GenreEntity;
+import org.cyberrealm.tech.muvio.model.Media;
+import org.cyberrealm.tech.muvio.model.TopLists;
+import org.cyberrealm.tech.muvio.model.Type;
+import org.cyberrealm.tech.muvio.model.Vibe;
+import org.cyberrealm.tech.muvio.service.CategoryService;
+import org.cyberrealm.tech.muvio.service.ClassificationService;
+import org.cyberrealm.tech.muvio.service.TopListService;
+import org.cyberrealm.tech.muvio.service.VibeService;
+import org.cyberrealm.tech.muvio.util.AwardIndex;
+import org.cyberrealm.tech.muvio.util.KeywordDictionary;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class ClassificationServiceImpl implements ClassificationService {
+    private static final String EMPTY = "";
+    private static final Vibe[] VIBES = Vibe.values();
+    private static final ClassificationInput EMPTY_INPUT = new ClassificationInput(List.of(),
+            ZERO, 0.0, ZERO, 0L, Set.of());
+    private final CategoryService categoryService;
+    private final VibeService vibeService;
+    private final TopListService topListService;
+    private final KeywordDictionary keywordDictionary;
+
+    @Override
+    public void classify(List<Media> media, AwardIndex imdbTop250, AwardIndex winningMedia) {
+        final ClassificationBatch batch = toBatch(media);
+        final List<Classification> classifications = IntStream.range(ZERO, media.size())
+                .parallel()
+                .mapToObj(index -> classify(batch, index, imdbTop250, winningMedia))
+                .toList();
+        for (int index = ZERO; index < media.size(); index++) {
+            final Media item = media.get(index);
+            final Classification classification = classifications.get(index);
+            item.setCategories(classification.categories());
+            item.setVibes(classification.vibes());
+            item.setVibeScores(classification.vibeScores());
+            item.setTopLists(classification.topLists());
+        }
+    }
+
+    private Classification classify(ClassificationBatch batch, int index,
+                                     AwardIndex imdbTop250, AwardIndex winningMedia) {
+        final Set<Category> categories = categoryService.putCategories(
+                batch.overviews()[index], batch.keywordIds()[index], batch.ratings()[index],
+                batch.voteCounts()[index], batch.popularities()[index], imdbTop250,
+                batch.ids()[index], batch.titles()[index], batch.releaseYears()[index]);
+        final int[] scores = new int[VIBES.length];
+        vibeService.addScores(batch.contentRatings().get(index), batch.genres().get(index),
+                scores);
+        final Set<Vibe> vibes = vibeService.getVibes(scores);
+        final Set<TopLists> topLists = batch.types()[index] == Type.TV_SHOW
+                ? topListService.putTopListsForTvShow(batch.keywordIds()[index],
+                batch.ratings()[index], batch.voteCounts()[index], batch.popularities()[index],
+                batch.releaseYears()[index], winningMedia, batch.ids()[index],
+                batch.titles()[index])
+                : topListService.putTopLists(batch.keywordIds()[index], batch.ratings()[index],
+                batch.voteCounts()[index], batch.popularities()[index],
+                batch.releaseYears()[index], winningMedia, batch.ids()[index],
+                batch.titles()[index], batch.budgets()[index], batch.revenues()[index]);
+        return new Classification(categories, vibes, toVibeScores(scores), topLists);
+    }
+
+    private Map<Vibe, Integer> toVibeScores(int[] scores) {
+        final Map<Vibe, Integer> vibeScores = new EnumMap<>(Vibe.class);
+        for (int ordinal = ZERO; ordinal < scores.length; ordinal++) {
+            if (scores[ordinal] > ZERO) {
+                vibeScores.put(VIBES[ordinal], scores[ordinal]);
+            }
+        }
+        return vibeScores;
+    }
+
+    private ClassificationBatch toBatch(List<Media> media) {
+        final int size = media.size();
+        final ClassificationBatch batch = new ClassificationBatch(new String[size],
+                new String[size], new String[size], new Type[size], new double[size],
+                new int[size], new double[size], new int[size], new int[size], new long[size],
+                new BitSet[size], new ArrayList<>(size), new ArrayList<>(size));
+        for (int index = ZERO; index < size; index++) {
+            final Media item = media.get(index);
+            final ClassificationInput input = Optional.ofNullable(item.getClassificationInput())
+                    .orElse(EMPTY_INPUT);
+            batch.ids()[index] = item.getId();
+            batch.titles()[index] = item.getTitle();
+            batch.overviews()[index] = Optional.ofNullable(item.getOverview()).orElse(EMPTY)
+                    .toLowerCase();
+            batch.types()[index] = item.getType();
+            batch.ratings()[index] = Optional.ofNullable(item.getRating()).orElse(0.0);
+            batch.voteCounts()[index] = Optional.ofNullable(input.getVoteCount()).orElse(ZERO);
+            batch.popularities()[index] = Optional.ofNullable(input.getPopularity())
+                    .orElse(0.0);
+            batch.releaseYears()[index] = Optional.ofNullable(item.getReleaseYear())
+                    .orElse(ZERO);
+            batch.budgets()[index] = Optional.ofNullable(input.getBudget()).orElse(ZERO);
+            batch.revenues()[index] = Optional.ofNullable(input.getRevenue()).orElse(0L);
+            batch.keywordIds()[index] = keywordDictionary.toIdSet(
+                    Optional.ofNullable(input.getKeywords()).orElse(List.of()));
+            batch.contentRatings().add(Optional.ofNullable(input.getContentRatings())
+                    .orElse(Set.of()));
+            batch.genres().add(item.getGenres());
+        }
+        return batch;
+    }
+
+    private record ClassificationBatch(String[] ids, String[] titles, String[] overviews,
+                                       Type[] types, double[] ratings, int[] voteCounts,
+                                       double[] popularities, int[] releaseYears,
+                                       int[] budgets, long[] revenues, BitSet[] keywordIds,
+                                       List<Set<String>> contentRatings,
+                                       List<Set<GenreEntity>> genres) {
+    }
+
+    private record Classification(Set<Category> categories, Set<Vibe> vibes,
+                                  Map<Vibe, Integer> vibeScores, Set<TopLists> topLists) {
+    }
+}
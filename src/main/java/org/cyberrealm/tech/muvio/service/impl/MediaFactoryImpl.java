@@ -12,21 +12,19 @@ import info.movito.themoviedbapi.model.tv.series.CreatedBy;
 import info.movito.themoviedbapi.model.tv.series.TvSeriesDb;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Objects;
 import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import org.cyberrealm.tech.muvio.mapper.ActorMapper;
 import org.cyberrealm.tech.muvio.mapper.MediaMapper;
 import org.cyberrealm.tech.muvio.mapper.ReviewMapper;
 import org.cyberrealm.tech.muvio.model.Actor;
+import org.cyberrealm.tech.muvio.model.ClassificationInput;
 import org.cyberrealm.tech.muvio.model.Media;
 import org.cyberrealm.tech.muvio.model.Review;
 import org.cyberrealm.tech.muvio.model.RoleActor;
-import org.cyberrealm.tech.muvio.service.CategoryService;
 import org.cyberrealm.tech.muvio.service.MediaFactory;
 import org.cyberrealm.tech.muvio.service.TmDbService;
-import org.cyberrealm.tech.muvio.service.TopListService;
-import org.cyberrealm.tech.muvio.service.VibeService;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -42,16 +40,12 @@ public class MediaFactoryImpl implements MediaFactory {
     private static final String DEFAULT_LANGUAGE = "null";
     private static final int MAX_NUMBER_OF_ACTORS = 3;
     private final TmDbService tmdbService;
-    private final CategoryService categoryService;
-    private final VibeService vibeService;
     private final MediaMapper mediaMapper;
     private final ActorMapper actorMapper;
     private final ReviewMapper reviewMapper;
-    private final TopListService topListService;
 
     @Override
-    public Media createMovie(String language, Integer movieId, Set<String> moviesTop250,
-                             Set<String> oscarWinningMedia, Map<Integer, Actor> actors) {
+    public Media createMovie(String language, Integer movieId, Map<Integer, Actor> actors) {
         final MovieDb movieDb = tmdbService.fetchMovieDetails(movieId, language);
         final List<Keyword> keywords = tmdbService.fetchMovieKeywords(movieId)
                 .getKeywords();
@@ -61,10 +55,6 @@ public class MediaFactoryImpl implements MediaFactory {
             return null;
         }
         final Media media = mediaMapper.toEntity(movieDb);
-        final Double voteAverage = media.getRating();
-        final Integer voteCount = movieDb.getVoteCount();
-        final Double popularity = movieDb.getPopularity();
-        final String title = media.getTitle();
         media.setTrailer(tmdbService.fetchMovieTrailer(movieId, language));
         media.setPhotos(tmdbService.fetchMoviePhotos(DEFAULT_LANGUAGE, movieId,
                 media.getPosterPath()));
@@ -72,19 +62,15 @@ public class MediaFactoryImpl implements MediaFactory {
         media.setActors(getMovieActors(credits.getCast(), actors));
         media.setReviews(getReviews(() ->
                 tmdbService.fetchMovieReviews(language, movieId)));
-        media.setVibes(vibeService.getVibes(tmdbService.fetchTmDbMovieRatings(movieId),
-                media.getGenres()));
-        media.setCategories(categoryService.putCategories(media.getOverview().toLowerCase(),
-                keywords, voteAverage, voteCount, popularity, moviesTop250, title));
-        media.setTopLists(topListService.putTopLists(keywords, voteAverage, voteCount, popularity,
-                media.getReleaseYear(), oscarWinningMedia, title, movieDb.getBudget(),
-                movieDb.getRevenue()));
+        media.setClassificationInput(new ClassificationInput(getKeywordNames(keywords),
+                movieDb.getVoteCount(), movieDb.getPopularity(), movieDb.getBudget(),
+                movieDb.getRevenue(), tmdbService.fetchTmDbMovieRatings(movieId)));
+        media.setDisplay(mediaMapper.toMediaDisplay(media));
         return media;
     }
 
     @Override
-    public Media createTvSerial(String language, Integer seriesId, Set<String> serialsTop250,
-                                Set<String> emmyWinningMedia, Map<Integer, Actor> actors) {
+    public Media createTvSerial(String language, Integer seriesId, Map<Integer, Actor> actors) {
         final List<Keyword> keywords = tmdbService.fetchTvSerialsKeywords(seriesId)
                 .getResults();
         final TvSeriesDb tvSeriesDb = tmdbService.fetchTvSerialsDetails(seriesId, language);
@@ -97,10 +83,6 @@ public class MediaFactoryImpl implements MediaFactory {
         if (tvDirector == null) {
             return null;
         }
-        final Double voteAverage = media.getRating();
-        final Integer voteCount = tvSeriesDb.getVoteCount();
-        final Double popularity = tvSeriesDb.getPopularity();
-        final String title = media.getTitle();
         media.setTrailer(tmdbService.fetchTvSerialsTrailer(seriesId, language));
         media.setPhotos(tmdbService.fetchTvSerialsPhotos(DEFAULT_LANGUAGE, seriesId,
                 media.getPosterPath()));
@@ -108,15 +90,23 @@ public class MediaFactoryImpl implements MediaFactory {
         media.setActors(getTvActors(cast, actors));
         media.setReviews(getReviews(() ->
                 tmdbService.fetchTvSerialsReviews(language, seriesId)));
-        media.setCategories(categoryService.putCategories(media.getOverview().toLowerCase(),
-                keywords, voteAverage, voteCount, popularity, serialsTop250, title));
-        media.setTopLists(topListService.putTopListsForTvShow(keywords, voteAverage, voteCount,
-                popularity, media.getReleaseYear(), emmyWinningMedia, title));
-        media.setVibes(vibeService.getVibes(tmdbService.fetchTmDbTvRatings(seriesId),
-                media.getGenres()));
+        media.setClassificationInput(new ClassificationInput(getKeywordNames(keywords),
+                tvSeriesDb.getVoteCount(), tvSeriesDb.getPopularity(), null, null,
+                tmdbService.fetchTmDbTvRatings(seriesId)));
+        media.setDisplay(mediaMapper.toMediaDisplay(media));
         return media;
     }
 
+    private List<String> getKeywordNames(List<Keyword> keywords) {
+        if (keywords == null) {
+            return List.of();
+        }
+        return keywords.stream()
+                .map(Keyword::getName)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     private List<Review> getReviews(
             Supplier<List<info.movito.themoviedbapi.model.core.Review>> reviewsSupplier
     ) {
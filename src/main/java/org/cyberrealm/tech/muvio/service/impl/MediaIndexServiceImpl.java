@@ -0,0 +1,169 @@
+package org.cyberrealm.tech.muvio.service.impl;
+
+import static org.cyberrealm.tech.muvio.common.Constants.RATING;
+import static org.cyberrealm.tech.muvio.common.Constants.ZERO;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.cyberrealm.tech.muvio.model.Category;
+import org.cyberrealm.tech.muvio.model.GenreEntity;
+import org.cyberrealm.tech.muvio.model.Media;
+import org.cyberrealm.tech.muvio.model.Type;
+import org.cyberrealm.tech.muvio.model.Vibe;
+import org.cyberrealm.tech.muvio.service.MediaIndexService;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MediaIndexServiceImpl implements MediaIndexService {
+    private static final String TYPE = "type";
+    private static final String GENRES = "genres";
+    private static final String RELEASE_YEAR = "releaseYear";
+    private static final String VIBES = "vibes";
+    private static final String CATEGORIES = "categories";
+    private static final String VIBE_SCORES = "vibeScores.";
+    private static final String ID = "_id";
+    private static final String COLLSCAN = "COLLSCAN";
+    private static final String STAGE = "stage";
+    private static final String QUERY_PLANNER = "queryPlanner";
+    private static final String WINNING_PLAN = "winningPlan";
+    private static final String EXPLAIN = "explain";
+    private static final String VERBOSITY = "verbosity";
+    private static final String FIND = "find";
+    private static final String FILTER = "filter";
+    private static final String SORT = "sort";
+    private static final String GTE = "$gte";
+    private static final String LTE = "$lte";
+    private static final String IN = "$in";
+    private static final String GT = "$gt";
+    private static final int PROBE_START_YEAR = 2000;
+    private static final int PROBE_END_YEAR = 2010;
+    private static final List<Index> INDEXES = Stream.concat(Stream.of(
+            new Index().on(TYPE, Sort.Direction.ASC).on(GENRES, Sort.Direction.ASC)
+                    .on(RATING, Sort.Direction.DESC).on(RELEASE_YEAR, Sort.Direction.ASC)
+                    .named("type_genres_rating_releaseYear"),
+            new Index().on(VIBES, Sort.Direction.ASC).on(TYPE, Sort.Direction.ASC)
+                    .on(RELEASE_YEAR, Sort.Direction.ASC)
+                    .named("vibes_type_releaseYear"),
+            new Index().on(TYPE, Sort.Direction.ASC).on(RELEASE_YEAR, Sort.Direction.ASC)
+                    .named("type_releaseYear")
+    ), Arrays.stream(Vibe.values())
+            .map(vibe -> new Index().on(VIBE_SCORES + vibe.name(), Sort.Direction.DESC)
+                    .on(RATING, Sort.Direction.DESC).on(ID, Sort.Direction.ASC)
+                    .named("vibeScores_" + vibe.name() + "_rating_id")))
+            .toList();
+    private static final Map<String, QueryShape> QUERY_SHAPES = Map.of(
+            "findMoviesByTypeGenreAndYears", new QueryShape(new Document(TYPE, Type.MOVIE.name())
+                    .append(GENRES, GenreEntity.DRAMA.name())
+                    .append(RELEASE_YEAR, new Document(GTE, PROBE_START_YEAR)),
+                    new Document(RATING, -1)),
+            "getAllMediaByVibes", new QueryShape(new Document(VIBES, Vibe.MAKE_ME_CHILL.name())
+                    .append(TYPE, Type.MOVIE.name())
+                    .append(RELEASE_YEAR, new Document(GTE, PROBE_START_YEAR)
+                            .append(LTE, PROBE_END_YEAR))
+                    .append(CATEGORIES, new Document(IN,
+                            List.of(Category.BASED_ON_A_BOOK.name()))),
+                    new Document()),
+            "getAllMediaByVibesAffinity", new QueryShape(
+                    new Document(VIBE_SCORES + Vibe.MAKE_ME_CHILL.name(), new Document(GT, ZERO)),
+                    new Document(VIBE_SCORES + Vibe.MAKE_ME_CHILL.name(), -1)
+                            .append(RATING, -1).append(ID, 1)),
+            "getAllForGallery", new QueryShape(new Document(TYPE, Type.MOVIE.name())
+                    .append(RELEASE_YEAR, new Document(GTE, PROBE_START_YEAR)
+                            .append(LTE, PROBE_END_YEAR)),
+                    new Document())
+    );
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyIndexesOnStartup() {
+        try {
+            ensureIndexes();
+            final List<String> missingIndexes = findMissingIndexes();
+            if (!missingIndexes.isEmpty()) {
+                log.warn("Media indexes are missing: {}", missingIndexes);
+            }
+            final List<String> collectionScans = findCollectionScans();
+            if (!collectionScans.isEmpty()) {
+                log.warn("Media queries fall back to a collection scan: {}", collectionScans);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Unable to verify media indexes: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void ensureIndexes() {
+        final IndexOperations indexOperations = mongoTemplate.indexOps(Media.class);
+        INDEXES.forEach(indexOperations::ensureIndex);
+        log.info("Ensured {} media indexes", INDEXES.size());
+    }
+
+    @Override
+    public List<String> findMissingIndexes() {
+        final Set<String> existingIndexes = mongoTemplate.indexOps(Media.class).getIndexInfo()
+                .stream()
+                .map(IndexInfo::getName)
+                .collect(Collectors.toSet());
+        return INDEXES.stream()
+                .map(this::getIndexName)
+                .filter(name -> !existingIndexes.contains(name))
+                .toList();
+    }
+
+    @Override
+    public List<String> findCollectionScans() {
+        final String collectionName = mongoTemplate.getCollectionName(Media.class);
+        return QUERY_SHAPES.entrySet().stream()
+                .filter(shape -> isCollectionScan(explain(collectionName, shape.getValue())))
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+    }
+
+    private Document explain(String collectionName, QueryShape shape) {
+        final Document find = new Document(FIND, collectionName)
+                .append(FILTER, shape.filter())
+                .append(SORT, shape.sort());
+        final Document result = mongoTemplate.executeCommand(new Document(EXPLAIN, find)
+                .append(VERBOSITY, QUERY_PLANNER));
+        final Document queryPlanner = result.get(QUERY_PLANNER, Document.class);
+        return queryPlanner == null ? new Document() : queryPlanner.get(WINNING_PLAN,
+                Document.class);
+    }
+
+    private boolean isCollectionScan(Object plan) {
+        if (plan instanceof Document document) {
+            return COLLSCAN.equals(document.get(STAGE))
+                    || document.values().stream().anyMatch(this::isCollectionScan);
+        }
+        if (plan instanceof Collection<?> stages) {
+            return stages.stream().anyMatch(this::isCollectionScan);
+        }
+        return false;
+    }
+
+    private String getIndexName(Index index) {
+        return index.getIndexOptions().getString("name");
+    }
+
+    private record QueryShape(Document filter, Document sort) {
+    }
+}
@@ -0,0 +1,45 @@
+package org.cyberrealm.tech.muvio.service.impl;
+
+import static org.cyberrealm.tech.muvio.common.Constants.MEDIA_JSON_CACHE;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPOutputStream;
+import lombok.RequiredArgsConstructor;
+import org.cyberrealm.tech.muvio.dto.SerializedMedia;
+import org.cyberrealm.tech.muvio.exception.MediaProcessingException;
+import org.cyberrealm.tech.muvio.service.MediaJsonService;
+import org.cyberrealm.tech.muvio.service.MediaService;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class MediaJsonServiceImpl implements MediaJsonService {
+    private static final String SERIALIZATION_ERROR = "Failed to serialize media with id: ";
+    private final MediaService mediaService;
+    private final ObjectMapper objectMapper;
+
+    @Cacheable(value = MEDIA_JSON_CACHE)
+    @Override
+    public SerializedMedia getSerializedMediaById(String id) {
+        try {
+            final byte[] json = objectMapper.writeValueAsBytes(mediaService.getMediaById(id));
+            return new SerializedMedia(json, compress(json));
+        } catch (JsonProcessingException e) {
+            throw new MediaProcessingException(SERIALIZATION_ERROR + id, e);
+        }
+    }
+
+    private byte[] compress(byte[] json) {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(json.length);
+        try (GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(json);
+        } catch (IOException e) {
+            throw new MediaProcessingException("Failed to compress media json", e);
+        }
+        return outputStream.toByteArray();
+    }
+}
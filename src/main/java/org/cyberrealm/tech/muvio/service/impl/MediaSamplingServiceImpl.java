@@ -0,0 +1,99 @@
+package org.cyberrealm.tech.muvio.service.impl;
+
+import static org.cyberrealm.tech.muvio.common.Constants.BACK_OFF;
+import static org.cyberrealm.tech.muvio.common.Constants.ONE;
+import static org.cyberrealm.tech.muvio.common.Constants.ZERO;
+
+import com.mongodb.MongoSocketReadTimeoutException;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.cyberrealm.tech.muvio.dto.PosterDto;
+import org.cyberrealm.tech.muvio.repository.MediaRepository;
+import org.cyberrealm.tech.muvio.service.MediaSamplingService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MediaSamplingServiceImpl implements MediaSamplingService {
+    @Value("${catalogue.warmup.enabled:true}")
+    private boolean warmupEnabled;
+    private final MediaRepository mediaRepository;
+    private volatile SamplingPool samplingPool;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!warmupEnabled) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (DataAccessException e) {
+            log.warn("Unable to warm up the sampling pool: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    @Retryable(retryFor = {
+            DataAccessResourceFailureException.class, MongoSocketReadTimeoutException.class
+    },
+            backoff = @Backoff(delay = BACK_OFF))
+    public void refresh() {
+        final List<PosterDto> posters = mediaRepository.findAllPosters();
+        final String[] ids = new String[posters.size()];
+        final List<PosterDto> eligiblePosters = new ArrayList<>(posters.size());
+        for (int i = ZERO; i < posters.size(); i++) {
+            final PosterDto poster = posters.get(i);
+            ids[i] = poster.id();
+            if (poster.posterPath() != null) {
+                eligiblePosters.add(poster);
+            }
+        }
+        samplingPool = new SamplingPool(ids, eligiblePosters.toArray(PosterDto[]::new));
+        log.info("Sampling pool refreshed with {} media and {} posters", ids.length,
+                eligiblePosters.size());
+    }
+
+    @Override
+    public Optional<List<String>> sampleIds(int size) {
+        final SamplingPool pool = samplingPool;
+        return pool == null ? Optional.empty() : Optional.of(sample(pool.ids(), size));
+    }
+
+    @Override
+    public Optional<List<PosterDto>> samplePosters(int size) {
+        final SamplingPool pool = samplingPool;
+        return pool == null ? Optional.empty() : Optional.of(sample(pool.posters(), size));
+    }
+
+    private <T> List<T> sample(T[] items, int size) {
+        final int count = Math.min(Math.max(size, ZERO), items.length);
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final BitSet selected = new BitSet(items.length);
+        final List<T> sample = new ArrayList<>(count);
+        for (int i = items.length - count; i < items.length; i++) {
+            final int candidate = random.nextInt(i + ONE);
+            final int index = selected.get(candidate) ? i : candidate;
+            selected.set(index);
+            sample.add(items[index]);
+        }
+        Collections.shuffle(sample, random);
+        return sample;
+    }
+
+    private record SamplingPool(String[] ids, PosterDto[] posters) {
+    }
+}
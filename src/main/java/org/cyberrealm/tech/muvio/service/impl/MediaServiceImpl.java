@@ -1,43 +1,60 @@
 package org.cyberrealm.tech.muvio.service.impl;
 
 import static org.cyberrealm.tech.muvio.common.Constants.BACK_OFF;
+import static org.cyberrealm.tech.muvio.common.Constants.GALLERY_CACHE;
 import static org.cyberrealm.tech.muvio.common.Constants.ONE_HUNDRED;
 import static org.cyberrealm.tech.muvio.common.Constants.RATING;
+import static org.cyberrealm.tech.muvio.common.Constants.RECOMMENDATIONS_CACHE;
+import static org.cyberrealm.tech.muvio.common.Constants.SEARCH_CACHE;
 import static org.cyberrealm.tech.muvio.common.Constants.SIX;
 import static org.cyberrealm.tech.muvio.common.Constants.TEN;
 import static org.cyberrealm.tech.muvio.common.Constants.THREE;
+import static org.cyberrealm.tech.muvio.common.Constants.VIBE_CACHE;
 import static org.cyberrealm.tech.muvio.common.Constants.ZERO;
 
 import com.mongodb.MongoSocketReadTimeoutException;
 import java.time.Year;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Stack;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.cyberrealm.tech.muvio.dto.CatalogueStatisticsDto;
 import org.cyberrealm.tech.muvio.dto.MainPageInfoDto;
 import org.cyberrealm.tech.muvio.dto.MediaBaseDto;
+import org.cyberrealm.tech.muvio.dto.MediaBatchDto;
 import org.cyberrealm.tech.muvio.dto.MediaDto;
+import org.cyberrealm.tech.muvio.dto.MediaDtoFromDb;
 import org.cyberrealm.tech.muvio.dto.MediaDtoWithCast;
-import org.cyberrealm.tech.muvio.dto.MediaDtoWithCastFromDb;
 import org.cyberrealm.tech.muvio.dto.MediaDtoWithPoints;
+import org.cyberrealm.tech.muvio.dto.MediaDtoWithPointsFromDb;
 import org.cyberrealm.tech.muvio.dto.MediaGalleryRequestDto;
+import org.cyberrealm.tech.muvio.dto.MediaSearchDto;
+import org.cyberrealm.tech.muvio.dto.MediaSearchFromDb;
+import org.cyberrealm.tech.muvio.dto.MediaSearchRequestDto;
+import org.cyberrealm.tech.muvio.dto.MediaVibePageFromDb;
 import org.cyberrealm.tech.muvio.dto.MediaVibeRequestDto;
 import org.cyberrealm.tech.muvio.dto.PosterDto;
 import org.cyberrealm.tech.muvio.dto.TitleDto;
 import org.cyberrealm.tech.muvio.exception.EntityNotFoundException;
 import org.cyberrealm.tech.muvio.exception.MediaProcessingException;
-import org.cyberrealm.tech.muvio.mapper.GenreMapper;
 import org.cyberrealm.tech.muvio.mapper.MediaMapper;
 import org.cyberrealm.tech.muvio.model.GenreEntity;
 import org.cyberrealm.tech.muvio.model.Media;
+import org.cyberrealm.tech.muvio.model.TopLists;
 import org.cyberrealm.tech.muvio.model.Type;
-import org.cyberrealm.tech.muvio.repository.ActorRepository;
 import org.cyberrealm.tech.muvio.repository.MediaRepository;
+import org.cyberrealm.tech.muvio.service.MediaSamplingService;
 import org.cyberrealm.tech.muvio.service.MediaService;
 import org.cyberrealm.tech.muvio.service.PaginationUtil;
+import org.cyberrealm.tech.muvio.service.StatisticsService;
+import org.cyberrealm.tech.muvio.service.TopListRankingService;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.data.domain.Page;
@@ -56,13 +73,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class MediaServiceImpl implements MediaService {
     private static final String POINTS = "points";
     private static final int MIN_TITLE_LENGTH = 3;
-    private static final String MEDIA_STATISTICS = "mediaStatistics";
+    private static final int RANDOM_ITEM_RANGE = TEN;
     private static final String RESULT_NULL = "#result == null";
     private final MediaRepository mediaRepository;
-    private final ActorRepository actorRepository;
     private final MediaMapper mediaMapper;
-    private final GenreMapper genreMapper;
     private final PaginationUtil paginationUtil;
+    private final MediaSamplingService mediaSamplingService;
+    private final StatisticsService statisticsService;
+    private final TopListRankingService topListRankingService;
 
     @Override
     @Retryable(retryFor = {
@@ -75,23 +93,49 @@ public class MediaServiceImpl implements MediaService {
                         + id)));
     }
 
+    @Override
+    @Retryable(retryFor = {
+            DataAccessResourceFailureException.class, MongoSocketReadTimeoutException.class
+    },
+            backoff = @Backoff(delay = BACK_OFF))
+    public MediaBatchDto getMediaByIds(List<String> ids) {
+        final List<String> distinctIds = ids.stream().distinct().toList();
+        final Map<String, MediaDto> mediaById = mediaRepository.findMoviesByIdIn(distinctIds)
+                .stream()
+                .map(mediaMapper::toMovieDto)
+                .collect(Collectors.toMap(MediaDto::id, Function.identity()));
+        final List<MediaDto> media = new ArrayList<>(distinctIds.size());
+        final List<String> missingIds = new ArrayList<>();
+        for (String id : distinctIds) {
+            final MediaDto mediaDto = mediaById.get(id);
+            if (mediaDto != null) {
+                media.add(mediaDto);
+            } else {
+                missingIds.add(id);
+            }
+        }
+        return new MediaBatchDto(media, missingIds);
+    }
+
+    @Cacheable(value = VIBE_CACHE, unless = RESULT_NULL)
     @Override
     @Retryable(retryFor = {
             DataAccessResourceFailureException.class, MongoSocketReadTimeoutException.class
     },
             backoff = @Backoff(delay = BACK_OFF))
     public Slice<MediaDtoWithPoints> getAllMediaByVibe(MediaVibeRequestDto requestDto) {
-        final List<MediaDtoWithPoints> mediasWithPoints = mediaRepository
-                .getAllMediaByVibes(requestDto).stream()
-                .map(media -> mediaMapper.toMediaDtoWithPoints(media,
-                        getCategories(requestDto.categories())))
-                .toList();
-        return paginationUtil.paginateListWithOneRandomBefore(PageRequest.of(
+        final Pageable pageable = PageRequest.of(
                 requestDto.page() == null ? ZERO : requestDto.page(),
                 requestDto.size() == null ? TEN : requestDto.size(),
-                Sort.by(POINTS).descending().and(Sort.by(RATING).descending())), mediasWithPoints);
+                Sort.by(POINTS).descending().and(Sort.by(RATING).descending()));
+        final MediaVibePageFromDb rankedMedia = mediaRepository.getAllMediaByVibes(requestDto,
+                pageable, pageable.getOffset() < RANDOM_ITEM_RANGE ? RANDOM_ITEM_RANGE : ZERO);
+        return paginationUtil.paginateWindowWithOneRandomBefore(pageable,
+                toMediaDtoWithPoints(rankedMedia.top()),
+                toMediaDtoWithPoints(rankedMedia.content()), rankedMedia.total());
     }
 
+    @Cacheable(value = GALLERY_CACHE, unless = RESULT_NULL)
     @Override
     @Retryable(retryFor = {
             DataAccessResourceFailureException.class, MongoSocketReadTimeoutException.class
@@ -105,16 +149,34 @@ public class MediaServiceImpl implements MediaService {
         return new SliceImpl<>(listMedias, pageable, !listMedias.isEmpty());
     }
 
+    @Cacheable(value = SEARCH_CACHE, unless = RESULT_NULL)
+    @Override
+    @Retryable(retryFor = {
+            DataAccessResourceFailureException.class, MongoSocketReadTimeoutException.class
+    },
+            backoff = @Backoff(delay = BACK_OFF))
+    public MediaSearchDto search(MediaSearchRequestDto requestDto, Pageable pageable) {
+        final MediaSearchFromDb result = mediaRepository.search(requestDto, pageable);
+        return new MediaSearchDto(result.content().stream()
+                .map(mediaMapper::toMediaBaseDto)
+                .toList(), pageable.getPageNumber(), pageable.getPageSize(),
+                result.facets().total(), mediaMapper.toMediaFacetsDto(result.facets()));
+    }
+
     @Override
     @Retryable(retryFor = {
             DataAccessResourceFailureException.class, MongoSocketReadTimeoutException.class
     },
             backoff = @Backoff(delay = BACK_OFF))
     public Set<MediaDto> getAllLuck(int size) {
-        return mediaRepository.getAllLuck(size).stream()
+        return mediaSamplingService.sampleIds(size)
+                .<Collection<MediaDtoFromDb>>map(mediaRepository::findMoviesByIdIn)
+                .orElseGet(() -> mediaRepository.getAllLuck(size))
+                .stream()
                 .map(mediaMapper::toMovieDto).collect(Collectors.toSet());
     }
 
+    @Cacheable(value = RECOMMENDATIONS_CACHE, unless = RESULT_NULL)
     @Transactional
     @Override
     @Retryable(retryFor = {
@@ -143,29 +205,22 @@ public class MediaServiceImpl implements MediaService {
                 }
             }
         }
-        updateDuration(recommendations);
-        recommendations.forEach(
-                media -> {
-                    media.setGenres(genreMapper.toStringGenres(media.getGenres()));
-                    media.setType(mediaMapper.toCorrectType(media.getType()));
-                });
         final Page<MediaBaseDto> mediaPage = paginationUtil
                 .paginateList(PageRequest.of(page, SIX), recommendations);
         return mediaPage.getContent().size() < SIX ? null : mediaPage;
     }
 
     @Override
-    @Retryable(retryFor = {
-            DataAccessResourceFailureException.class, MongoSocketReadTimeoutException.class
-    },
-            backoff = @Backoff(delay = BACK_OFF))
     public Slice<MediaDtoWithCast> findMediaByTopLists(String topList, int page,int size) {
-        final Pageable pageable = PageRequest.of(page, size, Sort.by(RATING).descending());
-        final Slice<MediaDtoWithCastFromDb> media = mediaRepository
-                .findByTopListsContaining(topList, pageable);
-        final List<MediaDtoWithCast> mediaList = media.stream()
-                .map(mediaMapper::toMediaDtoWithCast).toList();
-        return new SliceImpl<>(mediaList, pageable, !mediaList.isEmpty());
+        final Pageable pageable = PageRequest.of(page, size);
+        final List<MediaDtoWithCast> ranking = Arrays.stream(TopLists.values())
+                .filter(element -> element.name().equalsIgnoreCase(topList))
+                .findFirst()
+                .map(topListRankingService::getRanking)
+                .orElse(List.of());
+        final int start = (int) Math.min(pageable.getOffset(), ranking.size());
+        final int end = start + Math.min(size, ranking.size() - start);
+        return new SliceImpl<>(ranking.subList(start, end), pageable, end < ranking.size());
     }
 
     @Override
@@ -174,7 +229,8 @@ public class MediaServiceImpl implements MediaService {
     },
             backoff = @Backoff(delay = BACK_OFF))
     public List<PosterDto> getRandomPosters(int size) {
-        return mediaRepository.getRandomPosters(size);
+        return mediaSamplingService.samplePosters(size)
+                .orElseGet(() -> mediaRepository.getRandomPosters(size));
     }
 
     @Override
@@ -195,17 +251,11 @@ public class MediaServiceImpl implements MediaService {
         if (title == null || title.length() < MIN_TITLE_LENGTH) {
             throw new IllegalArgumentException("The title must contain at least 3 characters");
         }
-        final Slice<MediaBaseDto> baseDtoSlice = Optional.ofNullable(
-                mediaRepository.findByTitle(title, pageable))
+        return Optional.ofNullable(mediaRepository.findByTitle(title, pageable))
                 .filter(slice -> !slice.isEmpty())
+                .map(slice -> slice.map(mediaMapper::toMediaBaseDto))
                 .orElseThrow(() ->
                         new MediaProcessingException("Couldn't find media by title: " + title));
-        baseDtoSlice.forEach(
-                media -> {
-                    media.setGenres(genreMapper.toStringGenres(media.getGenres()));
-                    media.setType(mediaMapper.toCorrectType(media.getType()));
-                });
-        return baseDtoSlice;
     }
 
     @Override
@@ -214,11 +264,9 @@ public class MediaServiceImpl implements MediaService {
     },
             backoff = @Backoff(delay = BACK_OFF))
     public List<MediaBaseDto> getAll(Pageable pageable) {
-        return mediaRepository.getAll(pageable).stream().peek(media -> {
-            media.setDuration(mediaMapper.toDuration(Integer.valueOf(media.getDuration())));
-            media.setGenres(genreMapper.toStringGenres(media.getGenres()));
-            media.setType(mediaMapper.toCorrectType(media.getType()));
-        }).toList();
+        return mediaRepository.getAll(pageable).stream()
+                .map(mediaMapper::toMediaBaseDto)
+                .toList();
     }
 
     @Override
@@ -227,17 +275,25 @@ public class MediaServiceImpl implements MediaService {
     },
             backoff = @Backoff(delay = BACK_OFF))
     public long count() {
-        return mediaRepository.count();
+        return statisticsService.getStatistics().mediaCount();
     }
 
-    @Cacheable(value = MEDIA_STATISTICS, unless = RESULT_NULL)
     @Override
     @Retryable(retryFor = {
             DataAccessResourceFailureException.class, MongoSocketReadTimeoutException.class
     },
             backoff = @Backoff(delay = BACK_OFF))
     public MainPageInfoDto getMainPageInfo() {
-        return new MainPageInfoDto(count(), getGenreCount(), actorRepository.count());
+        final CatalogueStatisticsDto statistics = statisticsService.getStatistics();
+        return new MainPageInfoDto(statistics.mediaCount(), getGenreCount(),
+                statistics.actorCount());
+    }
+
+    private List<MediaDtoWithPoints> toMediaDtoWithPoints(
+            List<MediaDtoWithPointsFromDb> media) {
+        return media.stream()
+                .map(mediaMapper::toMediaDtoWithPoints)
+                .toList();
     }
 
     private int getGenreCount() {
@@ -258,24 +314,10 @@ public class MediaServiceImpl implements MediaService {
         final Pageable sortedPageRequest = PageRequest.of(ZERO, ONE_HUNDRED, Sort.by(RATING));
         final List<MediaBaseDto> content = mediaRepository
                 .findMoviesByTypeGenreAndYears(type, genre, minYear, sortedPageRequest)
+                .map(mediaMapper::toMediaBaseDto)
                 .getContent();
         final Stack<MediaBaseDto> stack = new Stack<>();
         stack.addAll(content);
         return stack;
     }
-
-    private <T extends MediaBaseDto> void updateDuration(Iterable<T> mediaList) {
-        mediaList.forEach(media -> {
-            if (media.getDuration() != null) {
-                media.setDuration(
-                        mediaMapper.toDuration(Integer.parseInt(media.getDuration())));
-            }
-        });
-    }
-
-    private Set<String> getCategories(Set<String> categories) {
-        return categories != null
-                ? categories.stream().map(String::toUpperCase).collect(Collectors.toSet())
-                : Set.of();
-    }
 }
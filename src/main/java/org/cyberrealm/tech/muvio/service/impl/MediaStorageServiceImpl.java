@@ -8,22 +8,44 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.cyberrealm.tech.muvio.mapper.MediaMapper;
 import org.cyberrealm.tech.muvio.model.Actor;
 import org.cyberrealm.tech.muvio.model.Media;
 import org.cyberrealm.tech.muvio.repository.ActorRepository;
 import org.cyberrealm.tech.muvio.repository.MediaRepository;
 import org.cyberrealm.tech.muvio.service.MediaStorageService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class MediaStorageServiceImpl implements MediaStorageService {
     private static final int BATCH_SIZE = 500;
+    @Value("${catalogue.warmup.enabled:true}")
+    private boolean warmupEnabled;
     private final MediaRepository mediaRepository;
     private final ActorRepository actorRepository;
+    private final MediaMapper mediaMapper;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillDisplayOnStartup() {
+        if (!warmupEnabled) {
+            return;
+        }
+        try {
+            backfillDisplay();
+        } catch (DataAccessException e) {
+            log.warn("Unable to backfill display fields: {}", e.getMessage());
+        }
+    }
 
     @Override
     @Retryable(retryFor = {
@@ -58,4 +80,25 @@ public class MediaStorageServiceImpl implements MediaStorageService {
         actorList.clear();
         mediaList.clear();
     }
+
+    @Override
+    @Retryable(retryFor = {
+            DataAccessResourceFailureException.class, MongoSocketReadTimeoutException.class
+    },
+            backoff = @Backoff(delay = BACK_OFF))
+    public void backfillDisplay() {
+        int backfilled = ZERO;
+        List<Media> batch = mediaRepository.findMediaWithoutDisplay(null, BATCH_SIZE);
+        while (!batch.isEmpty()) {
+            batch.forEach(media -> media.setDisplay(mediaMapper.toMediaDisplay(media)));
+            mediaRepository.updateDisplays(batch);
+            backfilled += batch.size();
+            batch = batch.size() < BATCH_SIZE ? List.of()
+                    : mediaRepository.findMediaWithoutDisplay(batch.getLast().getId(),
+                            BATCH_SIZE);
+        }
+        if (backfilled > ZERO) {
+            log.info("Display fields backfilled for {} media", backfilled);
+        }
+    }
 }
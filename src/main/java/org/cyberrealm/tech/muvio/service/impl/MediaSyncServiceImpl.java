@@ -5,18 +5,22 @@ import static org.cyberrealm.tech.muvio.common.Constants.TV;
 import static org.cyberrealm.tech.muvio.common.Constants.ZERO;
 
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import org.cyberrealm.tech.muvio.model.Actor;
 import org.cyberrealm.tech.muvio.model.Media;
+import org.cyberrealm.tech.muvio.service.ClassificationService;
 import org.cyberrealm.tech.muvio.service.MediaFactory;
 import org.cyberrealm.tech.muvio.service.MediaSyncService;
 import org.cyberrealm.tech.muvio.service.TmDbService;
+import org.cyberrealm.tech.muvio.util.AwardIndex;
 import org.springframework.stereotype.Service;
 
 @RequiredArgsConstructor
@@ -27,10 +31,24 @@ public class MediaSyncServiceImpl implements MediaSyncService {
     private static final String EMPTY = "";
     private final TmDbService tmdbService;
     private final MediaFactory mediaFactory;
+    private final ClassificationService classificationService;
+
+    @Override
+    public AwardIndex indexAwards(String language, String region, Set<String> titles,
+                                  boolean isMovies) {
+        final Map<String, String> resolvedIds = new ConcurrentHashMap<>();
+        titles.parallelStream()
+                .filter(Objects::nonNull)
+                .forEach(title -> (isMovies
+                        ? tmdbService.searchMovies(title, language, region)
+                        : tmdbService.searchTvSeries(title, language))
+                        .ifPresent(id -> resolvedIds.put(title, (isMovies ? EMPTY : TV) + id)));
+        return AwardIndex.of(titles, resolvedIds);
+    }
 
     @Override
     public void importMedia(String language, String region, int currentYear,
-                            Set<String> imdbTop250, Set<String> winningMedia,
+                            AwardIndex imdbTop250, AwardIndex winningMedia,
                             Map<Integer, Actor> actorStorage, Map<String, Media> mediaStorage,
                             boolean isMovies) {
         final Set<Integer> ids = IntStream.rangeClosed(ZERO, LAST_PAGE).parallel()
@@ -39,22 +57,13 @@ public class MediaSyncServiceImpl implements MediaSyncService {
                         : tmdbService.fetchPopularTvSerials(language, page))
                 .flatMap(Collection::stream).filter(id -> isNewIds(id, isMovies, mediaStorage))
                 .collect(Collectors.toSet());
-        ids.parallelStream().forEach(id -> {
-            final Media media = isMovies
-                    ? mediaFactory.createMovie(language, id, imdbTop250,
-                    winningMedia, actorStorage)
-                    : mediaFactory.createTvSerial(language, id, imdbTop250,
-                    winningMedia, actorStorage);
-            if (media == null) {
-                return;
-            }
-            mediaStorage.put(media.getId(), media);
-        });
+        createMedia(language, ids, imdbTop250, winningMedia, actorStorage, mediaStorage,
+                isMovies);
     }
 
     @Override
-    public void importMediaByFilter(String language, int currentYear, Set<String> imdbTop250,
-                                    Set<String> winningMedia, Map<String, Media> mediaStorage,
+    public void importMediaByFilter(String language, int currentYear, AwardIndex imdbTop250,
+                                    AwardIndex winningMedia, Map<String, Media> mediaStorage,
                                     Map<Integer, Actor> actorStorage, boolean isMovies) {
         final Set<Integer> ids =
                 IntStream.rangeClosed(FIRST_YEAR, currentYear).parallel()
@@ -67,54 +76,39 @@ public class MediaSyncServiceImpl implements MediaSyncService {
                         .flatMap(Collection::stream)
                         .filter(id -> isNewIds(id, isMovies, mediaStorage))
                         .collect(Collectors.toSet());
-        ids.parallelStream().forEach(id -> {
-            final Media newMedia = isMovies
-                    ? mediaFactory.createMovie(language, id, imdbTop250, winningMedia,
-                    actorStorage)
-                    : mediaFactory.createTvSerial(language, id, imdbTop250,
-                    winningMedia, actorStorage);
-            if (newMedia == null) {
-                return;
-            }
-            mediaStorage.put(newMedia.getId(), newMedia);
-        });
+        createMedia(language, ids, imdbTop250, winningMedia, actorStorage, mediaStorage,
+                isMovies);
     }
 
     @Override
     public void importByFindingTitles(String language, String region, int currentYear,
                                       Map<Integer, Actor> actorStorage,
-                                      Map<String, Media> mediaStorage, Set<String> imdbTop250,
-                                      Set<String> winningMedia, boolean isMovies) {
-        final Set<Integer> mediaId = new HashSet<>();
-        findMediasIdsByTitles(language, region, imdbTop250, isMovies, mediaId);
-        findMediasIdsByTitles(language, region, winningMedia, isMovies, mediaId);
+                                      Map<String, Media> mediaStorage, AwardIndex imdbTop250,
+                                      AwardIndex winningMedia, boolean isMovies) {
+        final String prefix = isMovies ? EMPTY : TV;
+        final Set<Integer> mediaId = Stream.concat(imdbTop250.getIds().stream(),
+                        winningMedia.getIds().stream())
+                .filter(id -> !mediaStorage.containsKey(id))
+                .map(id -> Integer.valueOf(id.substring(prefix.length())))
+                .collect(Collectors.toSet());
         if (mediaId.isEmpty()) {
             return;
         }
-        mediaId.parallelStream().filter(id -> isNewIds(id, isMovies, mediaStorage))
-                .forEach(id -> {
-                    final Media newMedia = isMovies
-                            ? mediaFactory.createMovie(language, id, imdbTop250, winningMedia,
-                            actorStorage)
-                            : mediaFactory.createTvSerial(language, id, imdbTop250,
-                            winningMedia, actorStorage);
-                    if (newMedia == null) {
-                        return;
-                    }
-                    mediaStorage.put(newMedia.getId(), newMedia);
-                });
+        createMedia(language, mediaId, imdbTop250, winningMedia, actorStorage, mediaStorage,
+                isMovies);
     }
 
-    private void findMediasIdsByTitles(String language, String region, Set<String> titles,
-                                       boolean isMovies, Set<Integer> mediaId) {
-        if (!titles.isEmpty()) {
-            titles.parallelStream()
-                    .map(title -> isMovies
-                            ? tmdbService.searchMovies(title, language, region)
-                            : tmdbService.searchTvSeries(title, language))
-                    .filter(Optional::isPresent)
-                    .forEach(id -> mediaId.add(id.get()));
-        }
+    private void createMedia(String language, Set<Integer> ids, AwardIndex imdbTop250,
+                             AwardIndex winningMedia, Map<Integer, Actor> actorStorage,
+                             Map<String, Media> mediaStorage, boolean isMovies) {
+        final List<Media> newMedia = ids.parallelStream()
+                .map(id -> isMovies
+                        ? mediaFactory.createMovie(language, id, actorStorage)
+                        : mediaFactory.createTvSerial(language, id, actorStorage))
+                .filter(Objects::nonNull)
+                .toList();
+        classificationService.classify(newMedia, imdbTop250, winningMedia);
+        newMedia.forEach(media -> mediaStorage.put(media.getId(), media));
     }
 
     private boolean isNewIds(int id, boolean isMovies, Map<String, Media> mediaStorage) {
@@ -0,0 +1,71 @@
+package org.cyberrealm.tech.muvio.service.impl;
+
+import static org.cyberrealm.tech.muvio.common.Constants.ZERO;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.cyberrealm.tech.muvio.config.MediaWriteLock;
+import org.cyberrealm.tech.muvio.model.AwardList;
+import org.cyberrealm.tech.muvio.model.Media;
+import org.cyberrealm.tech.muvio.model.Type;
+import org.cyberrealm.tech.muvio.repository.MediaRepository;
+import org.cyberrealm.tech.muvio.service.AwardResolutionService;
+import org.cyberrealm.tech.muvio.service.CatalogueService;
+import org.cyberrealm.tech.muvio.service.ClassificationService;
+import org.cyberrealm.tech.muvio.service.ReclassificationService;
+import org.cyberrealm.tech.muvio.util.AwardIndex;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReclassificationServiceImpl implements ReclassificationService {
+    private static final int BATCH_SIZE = 2000;
+    private final MediaRepository mediaRepository;
+    private final ClassificationService classificationService;
+    private final CatalogueService catalogueService;
+    private final MediaWriteLock mediaWriteLock;
+    private final AwardResolutionService awardResolutionService;
+
+    @Scheduled(cron = "${reclassify.cron.time:-}")
+    @Override
+    public void reclassify() {
+        if (!mediaWriteLock.tryRunExclusively(this::reclassifyStoredMedia)) {
+            log.warn("Skipping the reclassification because a media synchronization is running");
+        }
+    }
+
+    private void reclassifyStoredMedia() {
+        log.info("Starting the reclassification of stored media");
+        final AwardIndex imdbTop250Movies = awardResolutionService.getAwardIndex(
+                AwardList.IMDB_TOP_250_MOVIES);
+        final AwardIndex oscarWinningMovies = awardResolutionService.getAwardIndex(
+                AwardList.OSCAR_WINNING_MOVIES);
+        final AwardIndex imdbTop250TvShows = awardResolutionService.getAwardIndex(
+                AwardList.IMDB_TOP_250_TV_SHOWS);
+        final AwardIndex emmyWinningTvShows = awardResolutionService.getAwardIndex(
+                AwardList.EMMY_WINNING_TV_SHOWS);
+        String lastId = null;
+        int reclassified = ZERO;
+        List<Media> batch = mediaRepository.findClassificationInputs(lastId, BATCH_SIZE);
+        while (!batch.isEmpty()) {
+            final Map<Boolean, List<Media>> byType = batch.stream()
+                    .collect(Collectors.partitioningBy(media -> media.getType() == Type.TV_SHOW));
+            classificationService.classify(byType.get(false), imdbTop250Movies,
+                    oscarWinningMovies);
+            classificationService.classify(byType.get(true), imdbTop250TvShows,
+                    emmyWinningTvShows);
+            mediaRepository.updateClassifications(batch);
+            reclassified += batch.size();
+            lastId = batch.getLast().getId();
+            batch = batch.size() < BATCH_SIZE ? List.of()
+                    : mediaRepository.findClassificationInputs(lastId, BATCH_SIZE);
+        }
+        catalogueService.refresh();
+        log.info("Reclassification completed for {} media", reclassified);
+    }
+}
@@ -0,0 +1,71 @@
+package org.cyberrealm.tech.muvio.service.impl;
+
+import static org.cyberrealm.tech.muvio.common.Constants.BACK_OFF;
+
+import com.mongodb.MongoSocketReadTimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import org.cyberrealm.tech.muvio.dto.CatalogueStatisticsDto;
+import org.cyberrealm.tech.muvio.mapper.StatisticsMapper;
+import org.cyberrealm.tech.muvio.model.CatalogueStatistics;
+import org.cyberrealm.tech.muvio.repository.ActorRepository;
+import org.cyberrealm.tech.muvio.repository.CatalogueStatisticsRepository;
+import org.cyberrealm.tech.muvio.repository.MediaRepository;
+import org.cyberrealm.tech.muvio.service.StatisticsService;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class StatisticsServiceImpl implements StatisticsService {
+    private static final String STATISTICS_ID = "catalogue";
+    private final MediaRepository mediaRepository;
+    private final ActorRepository actorRepository;
+    private final CatalogueStatisticsRepository statisticsRepository;
+    private final StatisticsMapper statisticsMapper;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile CatalogueStatisticsDto statistics;
+
+    @Override
+    @Retryable(retryFor = {
+            DataAccessResourceFailureException.class, MongoSocketReadTimeoutException.class
+    },
+            backoff = @Backoff(delay = BACK_OFF))
+    public CatalogueStatisticsDto getStatistics() {
+        final CatalogueStatisticsDto currentStatistics = statistics;
+        if (currentStatistics != null) {
+            return currentStatistics;
+        }
+        return statisticsRepository.findById(STATISTICS_ID)
+                .map(this::keep)
+                .orElseGet(this::rebuild);
+    }
+
+    @Override
+    @Retryable(retryFor = {
+            DataAccessResourceFailureException.class, MongoSocketReadTimeoutException.class
+    },
+            backoff = @Backoff(delay = BACK_OFF))
+    public void refresh() {
+        rebuild();
+    }
+
+    private CatalogueStatisticsDto rebuild() {
+        rebuildLock.lock();
+        try {
+            final CatalogueStatistics catalogueStatistics = statisticsMapper.toEntity(
+                    STATISTICS_ID, mediaRepository.countFacets(), actorRepository.count());
+            return keep(statisticsRepository.save(catalogueStatistics));
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private CatalogueStatisticsDto keep(CatalogueStatistics catalogueStatistics) {
+        final CatalogueStatisticsDto statisticsDto = statisticsMapper.toDto(catalogueStatistics);
+        statistics = statisticsDto;
+        return statisticsDto;
+    }
+}
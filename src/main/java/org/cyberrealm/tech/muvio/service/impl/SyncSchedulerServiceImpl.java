@@ -9,13 +9,17 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.cyberrealm.tech.muvio.config.MediaWriteLock;
 import org.cyberrealm.tech.muvio.model.Actor;
+import org.cyberrealm.tech.muvio.model.AwardList;
 import org.cyberrealm.tech.muvio.model.Media;
+import org.cyberrealm.tech.muvio.service.AwardResolutionService;
 import org.cyberrealm.tech.muvio.service.AwardService;
+import org.cyberrealm.tech.muvio.service.CatalogueService;
 import org.cyberrealm.tech.muvio.service.MediaStorageService;
 import org.cyberrealm.tech.muvio.service.MediaSyncService;
 import org.cyberrealm.tech.muvio.service.SyncSchedulerService;
-import org.springframework.cache.annotation.CacheEvict;
+import org.cyberrealm.tech.muvio.util.AwardIndex;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -26,19 +30,32 @@ public class SyncSchedulerServiceImpl implements SyncSchedulerService {
     private final AwardService awardService;
     private final MediaSyncService mediaSyncService;
     private final MediaStorageService mediaStorageService;
+    private final CatalogueService catalogueService;
+    private final MediaWriteLock mediaWriteLock;
+    private final AwardResolutionService awardResolutionService;
 
     //@Scheduled(initialDelayString = "${sync.initial.cron.time}")
-    @CacheEvict(value = "mediaStatistics", allEntries = true)
     @Override
     public void start() {
+        mediaWriteLock.runExclusively(this::importInitialMedia);
+    }
+
+    @Scheduled(cron = "${sync.cron.time}")
+    @Override
+    public void worker() {
+        mediaWriteLock.runExclusively(this::updateMedia);
+    }
+
+    private void importInitialMedia() {
         log.info("Initiating the initial media synchronization");
         final Map<Integer, Actor> actorStorage = new ConcurrentHashMap<>();
         final Map<String, Media> mediaStorage = new ConcurrentHashMap<>();
         final int currentYear = Year.now().getValue();
-        final Set<String> imdbTop250Movies = awardService.getImdbTop250Movies();
-        final Set<String> oscarWinningMovies = awardService.getOscarWinningMovies();
-        final Set<String> imdbTop250TvShows = awardService.getImdbTop250TvShows();
-        final Set<String> emmyWinningTvShows = awardService.getEmmyWinningTvShows();
+        final AwardIndex imdbTop250Movies = AwardIndex.of(awardService.getImdbTop250Movies());
+        final AwardIndex oscarWinningMovies = AwardIndex.of(awardService.getOscarWinningMovies());
+        final AwardIndex imdbTop250TvShows = AwardIndex.of(awardService.getImdbTop250TvShows());
+        final AwardIndex emmyWinningTvShows = AwardIndex.of(
+                awardService.getEmmyWinningTvShows());
         mediaSyncService.importMedia(LANGUAGE_EN, REGION_US, currentYear, imdbTop250Movies,
                 oscarWinningMovies, actorStorage, mediaStorage, true);
         mediaSyncService.importMedia(LANGUAGE_EN, REGION_US, currentYear, imdbTop250TvShows,
@@ -47,21 +64,27 @@ public class SyncSchedulerServiceImpl implements SyncSchedulerService {
         mediaStorageService.saveAll(actorStorage, mediaStorage);
         actorStorage.clear();
         mediaStorage.clear();
+        catalogueService.refresh();
         log.info("Initial media synchronization completed successfully");
     }
 
-    @Scheduled(cron = "${sync.cron.time}")
-    @CacheEvict(value = "mediaStatistics", allEntries = true)
-    @Override
-    public void worker() {
+    private void updateMedia() {
         log.info("Starting the weekly media update");
         final Map<Integer, Actor> actorStorage = new ConcurrentHashMap<>();
         final Map<String, Media> mediaStorage = new ConcurrentHashMap<>();
         final int currentYear = Year.now().getValue();
-        final Set<String> imdbTop250Movies = awardService.getImdbTop250Movies();
-        final Set<String> oscarWinningMovies = awardService.getOscarWinningMovies();
-        final Set<String> imdbTop250TvShows = awardService.getImdbTop250TvShows();
-        final Set<String> emmyWinningTvShows = awardService.getEmmyWinningTvShows();
+        final Set<String> imdbTop250MovieTitles = awardService.getImdbTop250Movies();
+        final Set<String> oscarWinningMovieTitles = awardService.getOscarWinningMovies();
+        final Set<String> imdbTop250TvShowTitles = awardService.getImdbTop250TvShows();
+        final Set<String> emmyWinningTvShowTitles = awardService.getEmmyWinningTvShows();
+        final AwardIndex imdbTop250Movies = mediaSyncService.indexAwards(LANGUAGE_EN, REGION_US,
+                imdbTop250MovieTitles, true);
+        final AwardIndex oscarWinningMovies = mediaSyncService.indexAwards(LANGUAGE_EN,
+                REGION_US, oscarWinningMovieTitles, true);
+        final AwardIndex imdbTop250TvShows = mediaSyncService.indexAwards(LANGUAGE_EN,
+                REGION_US, imdbTop250TvShowTitles, false);
+        final AwardIndex emmyWinningTvShows = mediaSyncService.indexAwards(LANGUAGE_EN,
+                REGION_US, emmyWinningTvShowTitles, false);
         mediaSyncService.importMedia(LANGUAGE_EN, REGION_US, currentYear, imdbTop250Movies,
                 oscarWinningMovies, actorStorage, mediaStorage, true);
         mediaSyncService.importMedia(LANGUAGE_EN, REGION_US, currentYear, imdbTop250TvShows,
@@ -76,8 +99,17 @@ public class SyncSchedulerServiceImpl implements SyncSchedulerService {
                 emmyWinningTvShows, mediaStorage, actorStorage, false);
         mediaStorageService.deleteAll();
         mediaStorageService.saveAll(actorStorage, mediaStorage);
+        awardResolutionService.save(AwardList.IMDB_TOP_250_MOVIES, imdbTop250MovieTitles,
+                imdbTop250Movies);
+        awardResolutionService.save(AwardList.OSCAR_WINNING_MOVIES, oscarWinningMovieTitles,
+                oscarWinningMovies);
+        awardResolutionService.save(AwardList.IMDB_TOP_250_TV_SHOWS, imdbTop250TvShowTitles,
+                imdbTop250TvShows);
+        awardResolutionService.save(AwardList.EMMY_WINNING_TV_SHOWS, emmyWinningTvShowTitles,
+                emmyWinningTvShows);
         actorStorage.clear();
         mediaStorage.clear();
+        catalogueService.refresh();
         log.info("Weekly media update completed successfully");
     }
 }
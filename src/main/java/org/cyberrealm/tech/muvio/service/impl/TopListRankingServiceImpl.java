@@ -0,0 +1,149 @@
+package org.cyberrealm.tech.muvio.service.impl;
+
+import static org.cyberrealm.tech.muvio.common.Constants.BACK_OFF;
+import static org.cyberrealm.tech.muvio.common.Constants.ONE;
+import static org.cyberrealm.tech.muvio.common.Constants.ZERO;
+
+import com.mongodb.MongoSocketReadTimeoutException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.cyberrealm.tech.muvio.config.TopListRulesProperties;
+import org.cyberrealm.tech.muvio.dto.MediaDtoWithCast;
+import org.cyberrealm.tech.muvio.dto.MediaDtoWithCastFromDb;
+import org.cyberrealm.tech.muvio.dto.TopListCandidateFromDb;
+import org.cyberrealm.tech.muvio.mapper.MediaMapper;
+import org.cyberrealm.tech.muvio.model.RankedMedia;
+import org.cyberrealm.tech.muvio.model.TopListRanking;
+import org.cyberrealm.tech.muvio.model.TopLists;
+import org.cyberrealm.tech.muvio.repository.MediaRepository;
+import org.cyberrealm.tech.muvio.repository.TopListRankingRepository;
+import org.cyberrealm.tech.muvio.service.TopListRankingService;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TopListRankingServiceImpl implements TopListRankingService {
+    private static final double PRIOR_VOTES = 1000.0;
+    private static final Comparator<RankedCandidate> BY_SCORE = Comparator
+            .comparingDouble(RankedCandidate::score).reversed()
+            .thenComparing(RankedCandidate::id);
+    private final MediaRepository mediaRepository;
+    private final TopListRankingRepository topListRankingRepository;
+    private final MediaMapper mediaMapper;
+    private final TopListRulesProperties properties;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Map<TopLists, List<MediaDtoWithCast>> rankings;
+
+    @Override
+    @Retryable(retryFor = {
+            DataAccessResourceFailureException.class, MongoSocketReadTimeoutException.class
+    },
+            backoff = @Backoff(delay = BACK_OFF))
+    public List<MediaDtoWithCast> getRanking(TopLists topList) {
+        final Map<TopLists, List<MediaDtoWithCast>> currentRankings = rankings;
+        if (currentRankings != null) {
+            return currentRankings.get(topList);
+        }
+        final List<TopListRanking> storedRankings = topListRankingRepository.findAll();
+        return (storedRankings.isEmpty() ? rebuild() : keep(storedRankings)).get(topList);
+    }
+
+    @Override
+    @Retryable(retryFor = {
+            DataAccessResourceFailureException.class, MongoSocketReadTimeoutException.class
+    },
+            backoff = @Backoff(delay = BACK_OFF))
+    public void refresh() {
+        rebuild();
+    }
+
+    private Map<TopLists, List<MediaDtoWithCast>> rebuild() {
+        rebuildLock.lock();
+        try {
+            final Instant updatedAt = Instant.now();
+            final List<TopListRanking> topListRankings = new ArrayList<>();
+            for (TopLists topList : TopLists.values()) {
+                topListRankings.add(new TopListRanking(topList.name(),
+                        rank(mediaRepository.findTopListCandidates(topList.name())),
+                        updatedAt));
+            }
+            topListRankingRepository.deleteAll();
+            topListRankingRepository.saveAll(topListRankings);
+            final Map<TopLists, List<MediaDtoWithCast>> keptRankings = keep(topListRankings);
+            log.info("Top list rankings materialised for {} lists", topListRankings.size());
+            return keptRankings;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private List<RankedMedia> rank(List<TopListCandidateFromDb> candidates) {
+        final double meanRating = candidates.stream()
+                .mapToDouble(candidate -> Optional.ofNullable(candidate.rating()).orElse(0.0))
+                .average()
+                .orElse(0.0);
+        final List<RankedCandidate> ranked = candidates.stream()
+                .map(candidate -> new RankedCandidate(candidate.id(),
+                        getScore(candidate, meanRating)))
+                .sorted(BY_SCORE)
+                .limit(properties.getSize())
+                .toList();
+        return IntStream.range(ZERO, ranked.size())
+                .mapToObj(index -> new RankedMedia(ranked.get(index).id(), index + ONE,
+                        ranked.get(index).score()))
+                .toList();
+    }
+
+    private double getScore(TopListCandidateFromDb candidate, double meanRating) {
+        final double rating = Optional.ofNullable(candidate.rating()).orElse(0.0);
+        if (candidate.voteCount() == null) {
+            return rating;
+        }
+        final double votes = candidate.voteCount();
+        return (votes * rating + PRIOR_VOTES * meanRating) / (votes + PRIOR_VOTES);
+    }
+
+    private Map<TopLists, List<MediaDtoWithCast>> keep(List<TopListRanking> topListRankings) {
+        final Map<String, MediaDtoWithCast> mediaById = mediaRepository.findWithCastByIdIn(
+                        topListRankings.stream()
+                                .flatMap(ranking -> ranking.getMedia().stream())
+                                .map(RankedMedia::getMediaId)
+                                .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(MediaDtoWithCastFromDb::id,
+                        mediaMapper::toMediaDtoWithCast));
+        final Map<TopLists, List<MediaDtoWithCast>> keptRankings = new EnumMap<>(
+                TopLists.class);
+        for (TopLists topList : TopLists.values()) {
+            keptRankings.put(topList, List.of());
+        }
+        for (TopListRanking ranking : topListRankings) {
+            keptRankings.put(TopLists.valueOf(ranking.getId()), ranking.getMedia().stream()
+                    .sorted(Comparator.comparingInt(RankedMedia::getRank))
+                    .map(RankedMedia::getMediaId)
+                    .map(mediaById::get)
+                    .filter(Objects::nonNull)
+                    .toList());
+        }
+        rankings = keptRankings;
+        return keptRankings;
+    }
+
+    private record RankedCandidate(String id, double score) {
+    }
+}
@@ -1,125 +1,156 @@
 package org.cyberrealm.tech.muvio.service.impl;
 
-import static org.cyberrealm.tech.muvio.common.Constants.ONE;
-import static org.cyberrealm.tech.muvio.common.Constants.TEN;
-import static org.cyberrealm.tech.muvio.common.Constants.TWO;
-
-import info.movito.themoviedbapi.model.keywords.Keyword;
 import java.time.Year;
-import java.util.HashSet;
-import java.util.List;
+import java.time.ZoneId;
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.Optional;
 import java.util.Set;
+import org.cyberrealm.tech.muvio.config.TopListRulesProperties;
+import org.cyberrealm.tech.muvio.config.TopListRulesProperties.Rule;
 import org.cyberrealm.tech.muvio.model.TopLists;
 import org.cyberrealm.tech.muvio.service.TopListService;
+import org.cyberrealm.tech.muvio.util.AwardIndex;
+import org.cyberrealm.tech.muvio.util.KeywordDictionary;
 import org.springframework.stereotype.Service;
 
 @Service
 public class TopListServiceImpl implements TopListService {
-    private static final String SUPERHERO = "superhero";
-    private static final int START_YEAR = 2001;
-    private static final int POPULARITY_LIMIT = 4;
-    private static final int VOTE_COUNT_LIMIT = 1000;
-    private static final int RATING_LIMIT = 7;
-    private static final int LIMIT_REVENUE = 50_000_000;
-    private static final double IMDB_TOP_RATING_LIMIT = 8.0;
+    private static final int NO_KEYWORD = -1;
+    private final TopListRulesProperties properties;
+    private final KeywordDictionary keywordDictionary;
+    private volatile CompiledRules compiledRules;
+
+    public TopListServiceImpl(TopListRulesProperties properties,
+                              KeywordDictionary keywordDictionary) {
+        this.properties = properties;
+        this.keywordDictionary = keywordDictionary;
+        this.compiledRules = compile(Year.now());
+    }
 
     @Override
-    public Set<TopLists> putTopLists(List<Keyword> keywords, Double voteAverage,
-                                     Integer voteCount, Double popularity, Integer releaseYear,
-                                     Set<String> oscarWinningMedia, String title, Integer budget,
-                                     Long revenue) {
-        Set<TopLists> topLists = new HashSet<>();
-        putSuperheroMovies(topLists, keywords, voteAverage);
-        putIconicMovies(topLists, voteAverage, voteCount, popularity, releaseYear);
-        putOscarWinningMedia(topLists, title, oscarWinningMedia);
-        putBlockbustersDecade(topLists, releaseYear, voteAverage, voteCount, popularity,
-                budget, revenue);
-        putTopRatedImdbMovies(topLists, releaseYear, voteAverage, voteCount);
-        if (topLists.isEmpty()) {
-            return null;
-        }
-        return topLists;
+    public Set<TopLists> putTopLists(BitSet keywordIds, double voteAverage, int voteCount,
+                                     double popularity, int releaseYear,
+                                     AwardIndex oscarWinningMedia, String id, String title,
+                                     int budget, long revenue) {
+        final CompiledRules rules = getRules();
+        final Set<TopLists> topLists = evaluate(rules.movieRules(), keywordIds, voteAverage,
+                voteCount, popularity, releaseYear, budget, revenue,
+                rules.movieAwards() && oscarWinningMedia.contains(id, title, releaseYear));
+        return topLists.isEmpty() ? null : topLists;
     }
 
     @Override
-    public Set<TopLists> putTopListsForTvShow(List<Keyword> keywords, Double voteAverage,
-                                              Integer voteCount, Double popularity,
-                                              Integer releaseYear, Set<String> emmyWinningSerials,
+    public Set<TopLists> putTopListsForTvShow(BitSet keywordIds, double voteAverage,
+                                              int voteCount, double popularity, int releaseYear,
+                                              AwardIndex emmyWinningSerials, String id,
                                               String title) {
-        Set<TopLists> topLists = new HashSet<>();
-
-        putSuperheroMovies(topLists, keywords, voteAverage);
-        putIconicMovies(topLists, voteAverage, voteCount, popularity, releaseYear);
-        putBlockbustersDecadeForTvShows(topLists, releaseYear, voteAverage, voteCount, popularity);
-        putTopRatedImdbMovies(topLists, releaseYear, voteAverage, voteCount);
-        putEmmyWinningTvSerials(topLists, title, emmyWinningSerials);
-        if (topLists.isEmpty()) {
-            return null;
-        }
-        return topLists;
+        final CompiledRules rules = getRules();
+        final Set<TopLists> topLists = evaluate(rules.tvShowRules(), keywordIds, voteAverage,
+                voteCount, popularity, releaseYear, 0, 0L,
+                rules.tvShowAwards() && emmyWinningSerials.contains(id, title, releaseYear));
+        return topLists.isEmpty() ? null : topLists;
     }
 
-    private void putBlockbustersDecade(Set<TopLists> topLists, Integer releaseYear,
-                                       Double voteAverage, Integer voteCount, Double popularity,
-                                       Integer budget, Long revenue) {
-        final int decadeYear = Year.now().getValue() - TEN;
-        if (releaseYear >= decadeYear && voteAverage >= RATING_LIMIT
-                && voteCount >= VOTE_COUNT_LIMIT && popularity >= POPULARITY_LIMIT
-                && revenue >= LIMIT_REVENUE) {
-            final double profitabilityRatio = (double) revenue / budget;
-            if (profitabilityRatio >= TWO) {
-                topLists.add(TopLists.TOP_MOST_WATCHED_BLOCKBUSTERS_OF_THE_DECADE);
+    private Set<TopLists> evaluate(CompiledRule[] rules, BitSet keywordIds,
+                                   double voteAverage, int voteCount, double popularity,
+                                   int releaseYear, int budget, long revenue,
+                                   boolean awardWinner) {
+        final Set<TopLists> topLists = EnumSet.noneOf(TopLists.class);
+        for (CompiledRule rule : rules) {
+            if (voteAverage >= rule.minRating()
+                    && voteCount >= rule.minVoteCount()
+                    && popularity >= rule.minPopularity()
+                    && releaseYear >= rule.minReleaseYear()
+                    && releaseYear <= rule.maxReleaseYear()
+                    && revenue >= rule.minRevenue()
+                    && revenue >= rule.minProfitRatio() * budget
+                    && (!rule.awardWinner() || awardWinner)
+                    && (rule.keywordId() == NO_KEYWORD || keywordIds.get(rule.keywordId()))) {
+                topLists.add(rule.topList());
             }
         }
+        return topLists;
     }
 
-    private void putBlockbustersDecadeForTvShows(Set<TopLists> topLists, Integer releaseYear,
-                                       Double voteAverage, Integer voteCount, Double popularity) {
-        final int decadeYear = Year.now().getValue() - TEN;
-        if (releaseYear >= decadeYear && voteAverage >= RATING_LIMIT
-                && voteCount >= VOTE_COUNT_LIMIT && popularity >= POPULARITY_LIMIT) {
-            topLists.add(TopLists.TOP_MOST_WATCHED_BLOCKBUSTERS_OF_THE_DECADE);
+    private CompiledRules getRules() {
+        final CompiledRules rules = compiledRules;
+        if (rules != null && System.currentTimeMillis() < rules.validUntil()) {
+            return rules;
         }
+        final CompiledRules compiled = compile(Year.now());
+        compiledRules = compiled;
+        return compiled;
     }
 
-    private void putOscarWinningMedia(Set<TopLists> topLists, String title,
-                                      Set<String> oscarWinningMedia) {
-        if (oscarWinningMedia.contains(title)) {
-            topLists.add(TopLists.TOP_OSCAR_WINNING_MASTERPIECES);
-            oscarWinningMedia.remove(title);
-        }
+    private CompiledRules compile(Year year) {
+        final int currentYear = year.getValue();
+        final CompiledRule[] movieRules = {
+                compile(TopLists.TOP_100_SUPERHERO_MOVIES, properties.getSuperhero(),
+                        currentYear, true),
+                compile(TopLists.ICONIC_MOVIES_OF_THE_21ST_CENTURY, properties.getIconic(),
+                        currentYear, true),
+                compile(TopLists.TOP_OSCAR_WINNING_MASTERPIECES, properties.getOscarWinning(),
+                        currentYear, true),
+                compile(TopLists.TOP_MOST_WATCHED_BLOCKBUSTERS_OF_THE_DECADE,
+                        properties.getBlockbusters(), currentYear, true),
+                compile(TopLists.TOP_RATED_IMDB_MOVIES_OF_All_TIME, properties.getTopRated(),
+                        currentYear, true)
+        };
+        final CompiledRule[] tvShowRules = {
+                compile(TopLists.TOP_100_SUPERHERO_MOVIES, properties.getSuperhero(),
+                        currentYear, false),
+                compile(TopLists.ICONIC_MOVIES_OF_THE_21ST_CENTURY, properties.getIconic(),
+                        currentYear, false),
+                compile(TopLists.TOP_MOST_WATCHED_BLOCKBUSTERS_OF_THE_DECADE,
+                        properties.getBlockbusters(), currentYear, false),
+                compile(TopLists.TOP_RATED_IMDB_MOVIES_OF_All_TIME, properties.getTopRated(),
+                        currentYear, false),
+                compile(TopLists.TOP_EMMY_WINNING_MASTERPIECES, properties.getEmmyWinning(),
+                        currentYear, false)
+        };
+        return new CompiledRules(movieRules, tvShowRules, hasAwardRule(movieRules),
+                hasAwardRule(tvShowRules), year.plusYears(1).atDay(1)
+                .atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli());
     }
 
-    private void putEmmyWinningTvSerials(Set<TopLists> topLists, String title,
-                                         Set<String> emmyWinningSerials) {
-        if (emmyWinningSerials.contains(title)) {
-            topLists.add(TopLists.TOP_EMMY_WINNING_MASTERPIECES);
-        }
+    private CompiledRule compile(TopLists topList, Rule rule, int currentYear,
+                                 boolean isMovies) {
+        final int minReleaseYear = Math.max(
+                Optional.ofNullable(rule.getMinReleaseYear()).orElse(Integer.MIN_VALUE),
+                Optional.ofNullable(rule.getMaxYearsAgo())
+                        .map(years -> currentYear - years).orElse(Integer.MIN_VALUE));
+        return new CompiledRule(topList,
+                Optional.ofNullable(rule.getMinRating()).orElse(Double.NEGATIVE_INFINITY),
+                Optional.ofNullable(rule.getMinVoteCount()).orElse(Integer.MIN_VALUE),
+                Optional.ofNullable(rule.getMinPopularity()).orElse(Double.NEGATIVE_INFINITY),
+                minReleaseYear,
+                Optional.ofNullable(rule.getMinYearsAgo())
+                        .map(years -> currentYear - years).orElse(Integer.MAX_VALUE),
+                isMovies ? Optional.ofNullable(rule.getMinRevenue()).orElse(Long.MIN_VALUE)
+                        : Long.MIN_VALUE,
+                isMovies ? Optional.ofNullable(rule.getMinProfitRatio()).orElse(0.0) : 0.0,
+                rule.getKeyword() == null ? NO_KEYWORD
+                        : keywordDictionary.register(rule.getKeyword()),
+                Boolean.TRUE.equals(rule.getAwardWinner()));
     }
 
-    private void putIconicMovies(Set<TopLists> topLists, Double voteAverage, Integer voteCount,
-                                 Double popularity, Integer releaseYear) {
-        if (releaseYear >= START_YEAR) {
-            if (voteAverage >= RATING_LIMIT && voteCount >= VOTE_COUNT_LIMIT
-                    && popularity >= POPULARITY_LIMIT) {
-                topLists.add(TopLists.ICONIC_MOVIES_OF_THE_21ST_CENTURY);
+    private boolean hasAwardRule(CompiledRule[] rules) {
+        for (CompiledRule rule : rules) {
+            if (rule.awardWinner()) {
+                return true;
             }
         }
+        return false;
     }
 
-    void putSuperheroMovies(Set<TopLists> topLists, List<Keyword> keywords, Double voteAverage) {
-        if (keywords.stream().map(keyword -> keyword.getName().equals(SUPERHERO))
-                .findFirst().orElse(false) && voteAverage >= RATING_LIMIT) {
-            topLists.add(TopLists.TOP_100_SUPERHERO_MOVIES);
-        }
+    private record CompiledRules(CompiledRule[] movieRules, CompiledRule[] tvShowRules,
+                                 boolean movieAwards, boolean tvShowAwards, long validUntil) {
     }
 
-    private void putTopRatedImdbMovies(Set<TopLists> topLists, Integer releaseYear,
-                                       Double voteAverage, Integer voteCount) {
-        final int previousYear = Year.now().getValue() - ONE;
-        if (voteAverage >= IMDB_TOP_RATING_LIMIT
-                && voteCount >= VOTE_COUNT_LIMIT && releaseYear <= (previousYear)) {
-            topLists.add(TopLists.TOP_RATED_IMDB_MOVIES_OF_All_TIME);
-        }
+    private record CompiledRule(TopLists topList, double minRating, int minVoteCount,
+                                double minPopularity, int minReleaseYear, int maxReleaseYear,
+                                long minRevenue, double minProfitRatio, int keywordId,
+                                boolean awardWinner) {
     }
 }
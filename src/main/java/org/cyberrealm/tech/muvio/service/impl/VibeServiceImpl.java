@@ -1,11 +1,13 @@
 package org.cyberrealm.tech.muvio.service.impl;
 
+import static org.cyberrealm.tech.muvio.common.Constants.ZERO;
+
+import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.cyberrealm.tech.muvio.model.GenreEntity;
 import org.cyberrealm.tech.muvio.model.Vibe;
@@ -100,38 +102,79 @@ public class VibeServiceImpl implements VibeService {
                     Vibe.SCARY_ME_SILLY, 10))
     );
 
+    private static final Vibe[] VIBES = Vibe.values();
+    private static final Map<String, Integer> RATING_IDS = new HashMap<>();
+    private static final int[][] GENRE_SCORES = new int[GenreEntity.values().length][];
+    private static final int[][] RATING_SCORES = new int[RATINGS.size()][];
+    private static final ThreadLocal<int[]> SCORES = ThreadLocal.withInitial(
+            () -> new int[VIBES.length]);
+
+    static {
+        for (GenreEntity genre : GenreEntity.values()) {
+            GENRE_SCORES[genre.ordinal()] = toScores(GENRE_TO_VIBE_MAP.getOrDefault(genre,
+                    Map.of()));
+        }
+        for (int id = ZERO; id < RATINGS.size(); id++) {
+            RATING_IDS.put(RATINGS.get(id), id);
+            RATING_SCORES[id] = toScores(RATING_TO_VIBE_MAP.getOrDefault(RATINGS.get(id),
+                    Map.of()));
+        }
+    }
+
     @Override
     public Set<Vibe> getVibes(Set<String> ratings, Set<GenreEntity> genresMdb) {
-        Map<Vibe, Integer> vibeCount = calculateVibesFromGenres(genresMdb);
-        return collectVibes(addVibesFromRatings(ratings, vibeCount));
+        final int[] scores = SCORES.get();
+        Arrays.fill(scores, ZERO);
+        addScores(ratings, genresMdb, scores);
+        return getVibes(scores);
     }
 
-    private Set<Vibe> collectVibes(Map<Vibe, Integer> vibeCount) {
-        return vibeCount.entrySet().stream()
-                .collect(Collectors.groupingBy(Map.Entry::getValue,
-                        Collectors.mapping(Map.Entry::getKey, Collectors.toSet())))
-                .entrySet().stream()
-                .max(Map.Entry.comparingByKey())
-                .map(Map.Entry::getValue)
-                .orElse(Set.of());
+    @Override
+    public Set<Vibe> getVibes(int[] scores) {
+        int maxScore = ZERO;
+        for (int score : scores) {
+            maxScore = Math.max(maxScore, score);
+        }
+        final Set<Vibe> vibes = EnumSet.noneOf(Vibe.class);
+        if (maxScore == ZERO) {
+            return vibes;
+        }
+        for (int ordinal = ZERO; ordinal < scores.length; ordinal++) {
+            if (scores[ordinal] == maxScore) {
+                vibes.add(VIBES[ordinal]);
+            }
+        }
+        return vibes;
     }
 
-    private Map<Vibe, Integer> calculateVibesFromGenres(Set<GenreEntity> genresMdb) {
-        if (genresMdb == null || genresMdb.isEmpty()) {
-            return new HashMap<>();
+    @Override
+    public void addScores(Set<String> ratings, Set<GenreEntity> genresMdb, int[] scores) {
+        if (genresMdb != null) {
+            for (GenreEntity genre : genresMdb) {
+                if (genre != null) {
+                    add(GENRE_SCORES[genre.ordinal()], scores);
+                }
+            }
+        }
+        if (ratings != null) {
+            for (String rating : ratings) {
+                final Integer id = RATING_IDS.get(rating);
+                if (id != null) {
+                    add(RATING_SCORES[id], scores);
+                }
+            }
         }
-        return genresMdb.stream()
-                .filter(Objects::nonNull)
-                .flatMap(genreDb -> GENRE_TO_VIBE_MAP
-                        .getOrDefault(genreDb, Map.of()).entrySet().stream())
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, Integer::sum));
     }
 
-    private Map<Vibe, Integer> addVibesFromRatings(
-            Set<String> ratings, Map<Vibe, Integer> vibeCount) {
-        ratings.stream().distinct().filter(RATINGS::contains)
-                .forEach(rating -> RATING_TO_VIBE_MAP.getOrDefault(rating, Map.of())
-                        .forEach((vibe, score) -> vibeCount.merge(vibe, score, Integer::sum)));
-        return vibeCount;
+    private static int[] toScores(Map<Vibe, Integer> vibeScores) {
+        final int[] scores = new int[VIBES.length];
+        vibeScores.forEach((vibe, score) -> scores[vibe.ordinal()] = score);
+        return scores;
+    }
+
+    private static void add(int[] source, int[] scores) {
+        for (int ordinal = ZERO; ordinal < scores.length; ordinal++) {
+            scores[ordinal] += source[ordinal];
+        }
     }
 }
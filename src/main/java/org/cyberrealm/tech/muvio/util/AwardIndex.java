@@ -0,0 +1,100 @@
+package org.cyberrealm.tech.muvio.util;
+
+import static org.cyberrealm.tech.muvio.common.Constants.ONE;
+import static org.cyberrealm.tech.muvio.common.Constants.TWO;
+import static org.cyberrealm.tech.muvio.common.Constants.ZERO;
+
+import java.text.Normalizer;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class AwardIndex {
+    private static final Pattern QUALIFIER = Pattern.compile(
+            "\\s*\\((\\d{4})?\\s*(film|movie|tv series|miniseries)?\\)\\s*$",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^a-z0-9]+");
+    private static final Pattern LEADING_ARTICLE = Pattern.compile("^(the|a|an) ");
+    private static final String AMPERSAND = "&";
+    private static final String AND = " and ";
+    private static final String SPACE = " ";
+    private static final int ANY_YEAR = ZERO;
+    private final Map<String, Entry> entries;
+    private final Map<String, String> resolvedIds;
+    private final Set<String> ids;
+
+    private AwardIndex(Map<String, Entry> entries, Map<String, String> resolvedIds) {
+        this.entries = entries;
+        this.resolvedIds = resolvedIds;
+        this.ids = Set.copyOf(resolvedIds.values());
+    }
+
+    public static AwardIndex of(Collection<String> titles) {
+        return of(titles, Map.of());
+    }
+
+    public static AwardIndex of(Collection<String> titles, Map<String, String> resolvedIds) {
+        final Map<String, Entry> entries = new HashMap<>();
+        for (String title : titles) {
+            if (title == null || title.isBlank()) {
+                continue;
+            }
+            final Matcher qualifier = QUALIFIER.matcher(title);
+            final boolean qualified = qualifier.find()
+                    && (qualifier.group(ONE) != null || qualifier.group(TWO) != null);
+            final String name = qualified ? title.substring(ZERO, qualifier.start()) : title;
+            final int year = qualified && qualifier.group(ONE) != null
+                    ? Integer.parseInt(qualifier.group(ONE)) : ANY_YEAR;
+            final String key = normalise(name);
+            if (key.isEmpty()) {
+                continue;
+            }
+            entries.merge(key, new Entry(year, resolvedIds.get(title)), Entry::merge);
+        }
+        return new AwardIndex(Map.copyOf(entries), Map.copyOf(resolvedIds));
+    }
+
+    public static String normalise(String title) {
+        if (title == null) {
+            return "";
+        }
+        final String decomposed = Normalizer.normalize(title, Normalizer.Form.NFD);
+        final String lowerCase = MARKS.matcher(decomposed).replaceAll("")
+                .replace(AMPERSAND, AND)
+                .toLowerCase(Locale.ROOT);
+        final String words = SEPARATORS.matcher(lowerCase).replaceAll(SPACE).trim();
+        return LEADING_ARTICLE.matcher(words).replaceFirst("");
+    }
+
+    public boolean contains(String id, String title, int releaseYear) {
+        if (id != null && ids.contains(id)) {
+            return true;
+        }
+        final Entry entry = entries.get(normalise(title));
+        if (entry == null || entry.id() != null) {
+            return false;
+        }
+        return entry.year() == ANY_YEAR || releaseYear == ZERO
+                || Math.abs(entry.year() - releaseYear) <= ONE;
+    }
+
+    public Set<String> getIds() {
+        return ids;
+    }
+
+    public Map<String, String> getResolvedIds() {
+        return resolvedIds;
+    }
+
+    private record Entry(int year, String id) {
+        private Entry merge(Entry other) {
+            return new Entry(year == other.year() ? year : ANY_YEAR,
+                    id != null && id.equals(other.id()) ? id : null);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.cyberrealm.tech.muvio.util;
+
+import java.util.Locale;
+
+public final class ContentEncodings {
+    public static final String GZIP = "gzip";
+    private static final String X_GZIP = "x-gzip";
+    private static final String ANY_CODING = "*";
+    private static final String CODING_SEPARATOR = ",";
+    private static final String PARAMETER_SEPARATOR = ";";
+    private static final String QUALITY_PARAMETER = "q=";
+
+    private ContentEncodings() {
+    }
+
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Double gzipQuality = null;
+        Double anyQuality = null;
+        for (String coding : acceptEncoding.split(CODING_SEPARATOR)) {
+            final String[] parts = coding.split(PARAMETER_SEPARATOR);
+            final String name = parts[0].trim().toLowerCase(Locale.ROOT);
+            if (GZIP.equals(name) || X_GZIP.equals(name)) {
+                gzipQuality = Math.max(getQuality(parts),
+                        gzipQuality == null ? 0 : gzipQuality);
+            } else if (ANY_CODING.equals(name)) {
+                anyQuality = getQuality(parts);
+            }
+        }
+        final Double quality = gzipQuality != null ? gzipQuality : anyQuality;
+        return quality != null && quality > 0;
+    }
+
+    private static double getQuality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            final String parameter = parts[i].trim().toLowerCase(Locale.ROOT);
+            if (parameter.startsWith(QUALITY_PARAMETER)) {
+                try {
+                    return Double.parseDouble(parameter.substring(QUALITY_PARAMETER.length()));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,29 @@
+package org.cyberrealm.tech.muvio.util;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+@Component
+public class KeywordDictionary {
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger();
+
+    public int register(String name) {
+        return ids.computeIfAbsent(name, key -> nextId.getAndIncrement());
+    }
+
+    public BitSet toIdSet(Collection<String> keywords) {
+        final BitSet keywordIds = new BitSet();
+        for (String keyword : keywords) {
+            final Integer id = keyword == null ? null : ids.get(keyword);
+            if (id != null) {
+                keywordIds.set(id);
+            }
+        }
+        return keywordIds;
+    }
+}
@@ -0,0 +1,141 @@
+package org.cyberrealm.tech.muvio.util;
+
+import static org.cyberrealm.tech.muvio.common.Constants.MINUS_ONE;
+import static org.cyberrealm.tech.muvio.common.Constants.ONE;
+import static org.cyberrealm.tech.muvio.common.Constants.ZERO;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+public final class KeywordMatcher {
+    private static final int ROOT = 0;
+    private final char[][] labels;
+    private final int[][] targets;
+    private final int[] failure;
+    private final int[] outputLink;
+    private final int[] keywordAt;
+    private final int[] keywordLengths;
+
+    public KeywordMatcher(List<String> keywords) {
+        final List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        final List<Integer> terminals = new ArrayList<>();
+        children.add(new TreeMap<>());
+        terminals.add(MINUS_ONE);
+        keywordLengths = new int[keywords.size()];
+        for (int index = ZERO; index < keywords.size(); index++) {
+            final String keyword = keywords.get(index);
+            keywordLengths[index] = keyword.length();
+            if (keyword.isEmpty()) {
+                continue;
+            }
+            int node = ROOT;
+            for (int i = ZERO; i < keyword.length(); i++) {
+                final TreeMap<Character, Integer> edges = children.get(node);
+                Integer next = edges.get(keyword.charAt(i));
+                if (next == null) {
+                    next = children.size();
+                    edges.put(keyword.charAt(i), next);
+                    children.add(new TreeMap<>());
+                    terminals.add(MINUS_ONE);
+                }
+                node = next;
+            }
+            if (terminals.get(node) == MINUS_ONE) {
+                terminals.set(node, index);
+            }
+        }
+        final int size = children.size();
+        labels = new char[size][];
+        targets = new int[size][];
+        keywordAt = new int[size];
+        for (int node = ZERO; node < size; node++) {
+            final TreeMap<Character, Integer> edges = children.get(node);
+            labels[node] = new char[edges.size()];
+            targets[node] = new int[edges.size()];
+            int edge = ZERO;
+            for (Map.Entry<Character, Integer> entry : edges.entrySet()) {
+                labels[node][edge] = entry.getKey();
+                targets[node][edge] = entry.getValue();
+                edge++;
+            }
+            keywordAt[node] = terminals.get(node);
+        }
+        failure = new int[size];
+        outputLink = new int[size];
+        Arrays.fill(outputLink, MINUS_ONE);
+        linkFailures();
+    }
+
+    public BitSet findWords(CharSequence text) {
+        final BitSet matches = new BitSet(keywordLengths.length);
+        int state = ROOT;
+        for (int i = ZERO; i < text.length(); i++) {
+            final char character = text.charAt(i);
+            int next = child(state, character);
+            while (next == MINUS_ONE && state != ROOT) {
+                state = failure[state];
+                next = child(state, character);
+            }
+            state = next == MINUS_ONE ? ROOT : next;
+            final int end = i + ONE;
+            int node = keywordAt[state] != MINUS_ONE ? state : outputLink[state];
+            while (node != MINUS_ONE) {
+                final int keyword = keywordAt[node];
+                if (isBoundary(text, end - keywordLengths[keyword]) && isBoundary(text, end)) {
+                    matches.set(keyword);
+                }
+                node = outputLink[node];
+            }
+        }
+        return matches;
+    }
+
+    private void linkFailures() {
+        final Queue<Integer> queue = new ArrayDeque<>();
+        for (int target : targets[ROOT]) {
+            failure[target] = ROOT;
+            queue.add(target);
+        }
+        while (!queue.isEmpty()) {
+            final int node = queue.poll();
+            for (int edge = ZERO; edge < labels[node].length; edge++) {
+                final char character = labels[node][edge];
+                final int target = targets[node][edge];
+                int fallback = failure[node];
+                int next = child(fallback, character);
+                while (next == MINUS_ONE && fallback != ROOT) {
+                    fallback = failure[fallback];
+                    next = child(fallback, character);
+                }
+                failure[target] = next == MINUS_ONE ? ROOT : next;
+                outputLink[target] = keywordAt[failure[target]] != MINUS_ONE
+                        ? failure[target] : outputLink[failure[target]];
+                queue.add(target);
+            }
+        }
+    }
+
+    private int child(int node, char character) {
+        final int edge = Arrays.binarySearch(labels[node], character);
+        return edge < ZERO ? MINUS_ONE : targets[node][edge];
+    }
+
+    private boolean isBoundary(CharSequence text, int index) {
+        return isWordCharacter(text, index - ONE) != isWordCharacter(text, index);
+    }
+
+    private boolean isWordCharacter(CharSequence text, int index) {
+        if (index < ZERO || index >= text.length()) {
+            return false;
+        }
+        final char character = text.charAt(index);
+        return character == '_' || character >= 'a' && character <= 'z'
+                || character >= 'A' && character <= 'Z' || character >= '0' && character <= '9';
+    }
+}
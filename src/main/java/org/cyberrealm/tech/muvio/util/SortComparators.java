@@ -0,0 +1,94 @@
+package org.cyberrealm.tech.muvio.util;
+
+import static org.cyberrealm.tech.muvio.common.Constants.MINUS_ONE;
+import static org.cyberrealm.tech.muvio.common.Constants.ONE;
+import static org.cyberrealm.tech.muvio.common.Constants.ZERO;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.util.Comparator;
+import org.cyberrealm.tech.muvio.exception.EntityNotFoundException;
+import org.cyberrealm.tech.muvio.exception.MediaProcessingException;
+import org.springframework.data.domain.Sort;
+
+public final class SortComparators {
+    private static final int MAX_CACHED_COMPARATORS = 256;
+    private static final String SORTING_ERROR = "Error sorting field: ";
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class,
+            Object.class);
+    private static final Cache<Sort, Comparator<Object>> COMPARATORS = Caffeine.newBuilder()
+            .maximumSize(MAX_CACHED_COMPARATORS)
+            .build();
+
+    private SortComparators() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> Comparator<T> getComparator(Sort sort) {
+        return (Comparator<T>) COMPARATORS.get(sort, SortComparators::compile);
+    }
+
+    private static Comparator<Object> compile(Sort sort) {
+        Comparator<Object> comparator = (first, second) -> ZERO;
+        for (Sort.Order order : sort) {
+            comparator = comparator.thenComparing(compile(order));
+        }
+        return comparator;
+    }
+
+    private static Comparator<Object> compile(Sort.Order order) {
+        final String property = order.getProperty();
+        final ClassValue<MethodHandle> accessors = new ClassValue<>() {
+            @Override
+            protected MethodHandle computeValue(Class<?> type) {
+                return getAccessor(type, property);
+            }
+        };
+        final boolean ascending = order.isAscending();
+        return (first, second) -> {
+            final Object value1 = getValue(accessors.get(first.getClass()), first, property);
+            final Object value2 = getValue(accessors.get(second.getClass()), second, property);
+            if (value1 == null && value2 == null) {
+                return ZERO;
+            } else if (value1 == null) {
+                return ONE;
+            } else if (value2 == null) {
+                return MINUS_ONE;
+            }
+            if (value1 instanceof Comparable<?> && value2 instanceof Comparable<?>) {
+                @SuppressWarnings("unchecked")
+                final int comparison = ((Comparable<Object>) value1).compareTo(value2);
+                return ascending ? comparison : -comparison;
+            }
+            return ZERO;
+        };
+    }
+
+    private static MethodHandle getAccessor(Class<?> type, String property) {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            try {
+                final Field field = current.getDeclaredField(property);
+                return MethodHandles.privateLookupIn(current, MethodHandles.lookup())
+                        .unreflectGetter(field)
+                        .asType(ACCESSOR_TYPE);
+            } catch (NoSuchFieldException e) {
+                continue;
+            } catch (IllegalAccessException e) {
+                throw new EntityNotFoundException(SORTING_ERROR + property);
+            }
+        }
+        throw new EntityNotFoundException(SORTING_ERROR + property);
+    }
+
+    private static Object getValue(MethodHandle accessor, Object item, String property) {
+        try {
+            return (Object) accessor.invokeExact(item);
+        } catch (Throwable e) {
+            throw new MediaProcessingException(SORTING_ERROR + property, e);
+        }
+    }
+}
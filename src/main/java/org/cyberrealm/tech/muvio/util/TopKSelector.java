@@ -0,0 +1,88 @@
+package org.cyberrealm.tech.muvio.util;
+
+import static org.cyberrealm.tech.muvio.common.Constants.ONE;
+import static org.cyberrealm.tech.muvio.common.Constants.ZERO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class TopKSelector {
+    private TopKSelector() {
+    }
+
+    public static <T> List<T> selectSorted(List<T> list, Comparator<? super T> comparator,
+                                           int limit) {
+        if (limit >= list.size()) {
+            final List<T> sortedList = new ArrayList<>(list);
+            sortedList.sort(comparator);
+            return sortedList;
+        }
+        if (limit <= ZERO) {
+            return List.of();
+        }
+        final List<T> items = list instanceof RandomAccess ? list : new ArrayList<>(list);
+        final IndexComparator byRank = (first, second) -> {
+            final int comparison = comparator.compare(items.get(first), items.get(second));
+            return comparison != ZERO ? comparison : Integer.compare(first, second);
+        };
+        final int[] indexes = new int[items.size()];
+        Arrays.setAll(indexes, index -> index);
+        select(indexes, limit - ONE, byRank);
+        final Integer[] prefix = new Integer[limit];
+        for (int i = ZERO; i < limit; i++) {
+            prefix[i] = indexes[i];
+        }
+        Arrays.sort(prefix, byRank::compare);
+        final List<T> sortedPrefix = new ArrayList<>(limit);
+        for (Integer index : prefix) {
+            sortedPrefix.add(items.get(index));
+        }
+        return sortedPrefix;
+    }
+
+    private static void select(int[] indexes, int target, IndexComparator byRank) {
+        int left = ZERO;
+        int right = indexes.length - ONE;
+        while (left < right) {
+            final int pivot = partition(indexes, left, right,
+                    ThreadLocalRandom.current().nextInt(left, right + ONE), byRank);
+            if (pivot == target) {
+                return;
+            } else if (pivot < target) {
+                left = pivot + ONE;
+            } else {
+                right = pivot - ONE;
+            }
+        }
+    }
+
+    private static int partition(int[] indexes, int left, int right, int pivotIndex,
+                                 IndexComparator byRank) {
+        final int pivot = indexes[pivotIndex];
+        swap(indexes, pivotIndex, right);
+        int store = left;
+        for (int i = left; i < right; i++) {
+            if (byRank.compare(indexes[i], pivot) < ZERO) {
+                swap(indexes, store, i);
+                store++;
+            }
+        }
+        swap(indexes, store, right);
+        return store;
+    }
+
+    private static void swap(int[] indexes, int first, int second) {
+        final int value = indexes[first];
+        indexes[first] = indexes[second];
+        indexes[second] = value;
+    }
+
+    @FunctionalInterface
+    private interface IndexComparator {
+        int compare(int first, int second);
+    }
+}
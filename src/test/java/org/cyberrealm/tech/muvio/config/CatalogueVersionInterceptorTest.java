@@ -0,0 +1,65 @@
+package org.cyberrealm.tech.muvio.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.cyberrealm.tech.muvio.service.CatalogueService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+public class CatalogueVersionInterceptorTest {
+    private static final String MEDIA_PATH = "/media/1";
+    private static final String ETAG = "\"catalogue-3\"";
+    private static final long VERSION = 3L;
+    @Mock
+    private CatalogueService catalogueService;
+    @InjectMocks
+    private CatalogueVersionInterceptor catalogueVersionInterceptor;
+
+    @Test
+    @DisplayName("Verify preHandle() method defers the catalogue ETag until the handler succeeds")
+    void preHandle_noConditionalHeader_keepEtagForResponseAndContinue() {
+        when(catalogueService.getVersion()).thenReturn(VERSION);
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", MEDIA_PATH);
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(catalogueVersionInterceptor.preHandle(request, response, new Object()))
+                .isTrue();
+        assertThat(request.getAttribute(CatalogueVersionInterceptor.ETAG_ATTRIBUTE))
+                .isEqualTo(ETAG);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isNull();
+    }
+
+    @Test
+    @DisplayName("Verify preHandle() method answers a matching If-None-Match with 304")
+    void preHandle_matchingEtag_returnNotModified() {
+        when(catalogueService.getVersion()).thenReturn(VERSION);
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", MEDIA_PATH);
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"catalogue-2\", W/" + ETAG);
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(catalogueVersionInterceptor.preHandle(request, response, new Object()))
+                .isFalse();
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.NOT_MODIFIED.value());
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+    }
+
+    @Test
+    @DisplayName("Verify preHandle() method ignores non-GET requests")
+    void preHandle_postRequest_continueWithoutEtag() {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(catalogueVersionInterceptor.preHandle(
+                new MockHttpServletRequest("POST", MEDIA_PATH), response, new Object())).isTrue();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        verifyNoInteractions(catalogueService);
+    }
+}
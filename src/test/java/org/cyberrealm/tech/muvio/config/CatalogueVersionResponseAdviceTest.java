@@ -0,0 +1,50 @@
+package org.cyberrealm.tech.muvio.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class CatalogueVersionResponseAdviceTest {
+    private static final String MEDIA_PATH = "/media/1";
+    private static final String ETAG = "\"catalogue-3\"";
+    private static final String BODY = "body";
+    private final CatalogueVersionResponseAdvice catalogueVersionResponseAdvice =
+            new CatalogueVersionResponseAdvice();
+
+    @Test
+    @DisplayName("Verify beforeBodyWrite() method stamps successful responses with the ETag")
+    void beforeBodyWrite_okResponse_setEtagAndCacheControl() {
+        final MockHttpServletResponse response = write(HttpStatus.OK);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(ETAG);
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("max-age");
+    }
+
+    @Test
+    @DisplayName("Verify beforeBodyWrite() method leaves error responses uncacheable")
+    void beforeBodyWrite_notFoundResponse_skipEtagAndCacheControl() {
+        final MockHttpServletResponse response = write(HttpStatus.NOT_FOUND);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).isNull();
+    }
+
+    private MockHttpServletResponse write(HttpStatus status) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", MEDIA_PATH);
+        request.setAttribute(CatalogueVersionInterceptor.ETAG_ATTRIBUTE, ETAG);
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(status.value());
+        final ServletServerHttpResponse serverResponse = new ServletServerHttpResponse(response);
+        assertThat(catalogueVersionResponseAdvice.beforeBodyWrite(BODY, null,
+                MediaType.APPLICATION_JSON, null, new ServletServerHttpRequest(request),
+                serverResponse)).isEqualTo(BODY);
+        serverResponse.close();
+        return response;
+    }
+}
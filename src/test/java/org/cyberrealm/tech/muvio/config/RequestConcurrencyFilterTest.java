@@ -0,0 +1,59 @@
+package org.cyberrealm.tech.muvio.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class RequestConcurrencyFilterTest {
+    private static final String MEDIA_PATH = "/media/1";
+    private static final String ACTUATOR_BASE_PATH = "/actuator";
+    private static final String HEALTH_PATH = "/actuator/health";
+    private final RequestConcurrencyFilter requestConcurrencyFilter =
+            new RequestConcurrencyFilter(1, 1, 0, ACTUATOR_BASE_PATH);
+
+    @Test
+    @DisplayName("Verify doFilter() method rejects requests beyond the concurrency limit")
+    void doFilter_limitReached_returnServiceUnavailable() throws ServletException, IOException {
+        final MockHttpServletResponse rejected = new MockHttpServletResponse();
+        final MockHttpServletResponse served = new MockHttpServletResponse();
+        requestConcurrencyFilter.doFilter(new MockHttpServletRequest("GET", MEDIA_PATH), served,
+                (request, response) -> requestConcurrencyFilter.doFilter(
+                        new MockHttpServletRequest("GET", MEDIA_PATH), rejected,
+                        new MockFilterChain()));
+        assertThat(served.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(rejected.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Verify doFilter() method lets actuator requests through at the limit")
+    void doFilter_actuatorAtLimit_serveHealthCheck() throws ServletException, IOException {
+        final MockHttpServletResponse health = new MockHttpServletResponse();
+        final MockHttpServletRequest healthRequest = new MockHttpServletRequest("GET",
+                HEALTH_PATH);
+        healthRequest.setServletPath(HEALTH_PATH);
+        requestConcurrencyFilter.doFilter(new MockHttpServletRequest("GET", MEDIA_PATH),
+                new MockHttpServletResponse(), (request, response) -> requestConcurrencyFilter
+                        .doFilter(healthRequest, health, new MockFilterChain()));
+        assertThat(health.getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    @DisplayName("Verify doFilter() method releases the permit after each request")
+    void doFilter_sequentialRequests_serveAll() throws ServletException, IOException {
+        for (int i = 0; i < 3; i++) {
+            final MockHttpServletResponse response = new MockHttpServletResponse();
+            requestConcurrencyFilter.doFilter(new MockHttpServletRequest("GET", MEDIA_PATH),
+                    response, new MockFilterChain());
+            assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        }
+    }
+}
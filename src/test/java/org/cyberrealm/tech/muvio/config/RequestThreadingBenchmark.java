@@ -0,0 +1,87 @@
+package org.cyberrealm.tech.muvio.config;
+
+import static org.cyberrealm.tech.muvio.common.Constants.ZERO;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestThreadingBenchmark {
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int MONGO_POOL_SIZE = 100;
+    private static final long DATABASE_LATENCY_MILLIS = 5L;
+    @Param({"200", "1000", "5000"})
+    protected int concurrentRequests;
+    private ExecutorService platformThreads;
+    private ExecutorService virtualThreads;
+    private Semaphore connectionPool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        platformThreads = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+        virtualThreads = Executors.newVirtualThreadPerTaskExecutor();
+        connectionPool = new Semaphore(MONGO_POOL_SIZE, true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        platformThreads.shutdownNow();
+        virtualThreads.shutdownNow();
+    }
+
+    @Benchmark
+    public int platformThreadPool() throws InterruptedException, ExecutionException {
+        return serve(platformThreads);
+    }
+
+    @Benchmark
+    public int virtualThreadPerRequest() throws InterruptedException, ExecutionException {
+        return serve(virtualThreads);
+    }
+
+    private int serve(ExecutorService executor) throws InterruptedException,
+            ExecutionException {
+        final List<Future<Integer>> responses = new ArrayList<>(concurrentRequests);
+        for (int i = ZERO; i < concurrentRequests; i++) {
+            final int request = i;
+            responses.add(executor.submit(() -> {
+                connectionPool.acquire();
+                try {
+                    Thread.sleep(DATABASE_LATENCY_MILLIS);
+                } finally {
+                    connectionPool.release();
+                }
+                return request;
+            }));
+        }
+        int served = ZERO;
+        for (Future<Integer> response : responses) {
+            served = Math.max(served, response.get());
+        }
+        return served;
+    }
+}
@@ -49,6 +49,8 @@ import org.cyberrealm.tech.muvio.model.Type;
 import org.cyberrealm.tech.muvio.model.Vibe;
 import org.cyberrealm.tech.muvio.repository.ActorRepository;
 import org.cyberrealm.tech.muvio.repository.MediaRepository;
+import org.cyberrealm.tech.muvio.service.StatisticsService;
+import org.cyberrealm.tech.muvio.service.TopListRankingService;
 import org.cyberrealm.tech.muvio.util.TestUtil;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -75,6 +77,12 @@ public class MediaControllerTest extends AbstractMongoTest {
     @Autowired
     private ActorRepository actorRepository;
 
+    @Autowired
+    private StatisticsService statisticsService;
+
+    @Autowired
+    private TopListRankingService topListRankingService;
+
     @BeforeEach
     void setUp() {
         mediaRepository.deleteAll();
@@ -86,6 +94,8 @@ public class MediaControllerTest extends AbstractMongoTest {
 
         actorRepository.save(firstActor);
         mediaRepository.saveAll(List.of(firstMedia, secondMedia));
+        statisticsService.refresh();
+        topListRankingService.refresh();
     }
 
     @AfterEach
@@ -168,6 +178,7 @@ public class MediaControllerTest extends AbstractMongoTest {
     void countMedia_WhenRepositoryEmpty_ReturnsZero() throws Exception {
         // When
         mediaRepository.deleteAll();
+        statisticsService.refresh();
         MvcResult mvcResult = mockMvc.perform(get("/media/count"))
                 .andExpect(status().isOk())
                 .andReturn();
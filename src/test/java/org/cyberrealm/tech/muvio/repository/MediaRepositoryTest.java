@@ -18,7 +18,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import org.cyberrealm.tech.muvio.config.AbstractMongoTest;
-import org.cyberrealm.tech.muvio.dto.MediaBaseDto;
+import org.cyberrealm.tech.muvio.dto.MediaBaseDtoFromDb;
 import org.cyberrealm.tech.muvio.dto.MediaDtoFromDb;
 import org.cyberrealm.tech.muvio.dto.PosterDto;
 import org.cyberrealm.tech.muvio.dto.TitleDto;
@@ -68,10 +68,10 @@ public class MediaRepositoryTest extends AbstractMongoTest {
     @Test
     @DisplayName("Should return media by genre and year sorted by rating")
     void findMoviesByTypeGenreAndYears_ValidResponse_ReturnSliceMediaBaseDto() {
-        final Slice<MediaBaseDto> actual = mediaRepository.findMoviesByTypeGenreAndYears(
+        final Slice<MediaBaseDtoFromDb> actual = mediaRepository.findMoviesByTypeGenreAndYears(
                 Type.MOVIE, GenreEntity.SCIENCE_FICTION, MIN_YEAR_2000, PageRequest.of(ZERO, TEN));
         assertEquals(ONE, actual.getContent().size());
-        assertEquals(TITLE_1, actual.getContent().getFirst().getTitle());
+        assertEquals(TITLE_1, actual.getContent().getFirst().title());
     }
 
     @Test
@@ -84,9 +84,9 @@ public class MediaRepositoryTest extends AbstractMongoTest {
     @Test
     @DisplayName("Should return media by title")
     void findByTitle_ValidResponse_ReturnMediaDtoFromDb() {
-        final Slice<MediaBaseDto> actual = mediaRepository.findByTitle(TITLE_1, PAGEABLE);
+        final Slice<MediaBaseDtoFromDb> actual = mediaRepository.findByTitle(TITLE_1, PAGEABLE);
         assertNotNull(actual);
-        assertEquals(TITLE_1, actual.getContent().getFirst().getTitle());
+        assertEquals(TITLE_1, actual.getContent().getFirst().title());
     }
 
     @Test
@@ -109,27 +109,17 @@ public class MediaRepositoryTest extends AbstractMongoTest {
     @Test
     @DisplayName("Should return all MediaBaseDto with getAll()")
     void getAll_ValidResponse_ReturnListMediaBaseDto() {
-        final List<MediaBaseDto> actual = mediaRepository.getAll(PAGEABLE);
+        final List<MediaBaseDtoFromDb> actual = mediaRepository.getAll(PAGEABLE);
         assertEquals(TWO, actual.size());
-        assertEquals(actual, getListMediaBaseDto());
+        assertEquals(actual, getListMediaBaseDtoFromDb());
     }
 
-    private List<MediaBaseDto> getListMediaBaseDto() {
-        final List<MediaBaseDto> list = new ArrayList<>();
-        list.add(createMedia(STRING_1, TITLE_1, POSTER_PATH_1, RELEASE_YEAR_2010));
-        list.add(createMedia(STRING_2, TITLE_2, POSTER_PATH_2, RELEASE_YEAR_1999));
+    private List<MediaBaseDtoFromDb> getListMediaBaseDtoFromDb() {
+        final List<MediaBaseDtoFromDb> list = new ArrayList<>();
+        list.add(new MediaBaseDtoFromDb(STRING_1, TITLE_1, VOTE_AVERAGE_8, POSTER_PATH_1,
+                RELEASE_YEAR_2010, null));
+        list.add(new MediaBaseDtoFromDb(STRING_2, TITLE_2, VOTE_AVERAGE_8, POSTER_PATH_2,
+                RELEASE_YEAR_1999, null));
         return list;
     }
-
-    private MediaBaseDto createMedia(String id, String title, String posterPath, int releaseYear) {
-        MediaBaseDto media = new MediaBaseDto();
-        media.setId(id);
-        media.setTitle(title);
-        media.setGenres(Set.of(GenreEntity.SCIENCE_FICTION.name()));
-        media.setRating(VOTE_AVERAGE_8);
-        media.setPosterPath(posterPath);
-        media.setReleaseYear(releaseYear);
-        media.setType(Type.MOVIE.name());
-        return media;
-    }
 }
@@ -0,0 +1,98 @@
+package org.cyberrealm.tech.muvio.repository.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cyberrealm.tech.muvio.common.Constants.TEN;
+import static org.cyberrealm.tech.muvio.common.Constants.ZERO;
+
+import java.util.Set;
+import org.bson.Document;
+import org.cyberrealm.tech.muvio.dto.MediaGalleryRequestDto;
+import org.cyberrealm.tech.muvio.dto.MediaSearchRequestDto;
+import org.cyberrealm.tech.muvio.dto.MediaVibeRequestDto;
+import org.cyberrealm.tech.muvio.model.Category;
+import org.cyberrealm.tech.muvio.model.GenreEntity;
+import org.cyberrealm.tech.muvio.model.Type;
+import org.cyberrealm.tech.muvio.model.Vibe;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+public class MediaCriteriaCompilerTest {
+    private static final String YEARS = "2010-2020";
+    private static final String TYPE = "type";
+    private static final String RELEASE_YEAR = "releaseYear";
+    private static final String UNKNOWN = "unknown";
+    private final MediaCriteriaCompiler criteriaCompiler = new MediaCriteriaCompiler();
+
+    @Test
+    @DisplayName("Verify compile() method matches the type by equality")
+    void compile_lowerCaseType_returnEqualityOnEnum() {
+        final MediaVibeRequestDto request = new MediaVibeRequestDto(
+                Vibe.BLOW_MY_MIND.name().toLowerCase(), YEARS, "tv_show",
+                Set.of(Category.BASED_ON_A_BOOK.name().toLowerCase()), null, ZERO, TEN);
+        final Document actual = criteriaCompiler.compile(request).getCriteriaObject();
+        assertThat(actual.get(TYPE)).isEqualTo(Type.TV_SHOW);
+        assertThat(actual.get("vibes")).isEqualTo(Vibe.BLOW_MY_MIND.name());
+        assertThat(actual.get("categories")).isEqualTo(new Document("$in",
+                Set.of(Category.BASED_ON_A_BOOK.name())));
+        assertThat(actual.get(RELEASE_YEAR)).isEqualTo(new Document("$gte", 2010)
+                .append("$lte", 2020));
+    }
+
+    @Test
+    @DisplayName("Verify compile() method matches the vibe score in the affinity ranking")
+    void compile_affinityRanking_returnVibeScoreCriteria() {
+        final MediaVibeRequestDto request = new MediaVibeRequestDto(
+                Vibe.MAKE_ME_DREAM.name().toLowerCase(), null, null, null, "affinity", ZERO,
+                TEN);
+        final Document actual = criteriaCompiler.compile(request).getCriteriaObject();
+        assertThat(actual.get("vibeScores.MAKE_ME_DREAM")).isEqualTo(new Document("$gt", ZERO));
+        assertThat(actual).doesNotContainKey("vibes");
+        assertThat(criteriaCompiler.compileVibeScore(request))
+                .isEqualTo("vibeScores.MAKE_ME_DREAM");
+        assertThat(criteriaCompiler.compileVibeScore(new MediaVibeRequestDto(UNKNOWN, null,
+                null, null, "affinity", ZERO, TEN))).isNull();
+    }
+
+    @Test
+    @DisplayName("Verify compile() method ignores unknown types and blank filters")
+    void compile_unknownTypeAndBlankTitle_returnEmptyCriteria() {
+        final MediaGalleryRequestDto request = new MediaGalleryRequestDto(" ", UNKNOWN,
+                UNKNOWN);
+        assertThat(criteriaCompiler.compile(request).getCriteriaObject()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Verify compile() method reuses criteria for repeated filters")
+    void compile_sameFilters_returnCachedCriteria() {
+        final Criteria first = criteriaCompiler.compile(new MediaGalleryRequestDto(
+                null, YEARS, Type.MOVIE.name()));
+        final Criteria second = criteriaCompiler.compile(new MediaGalleryRequestDto(
+                " ", YEARS, "movie"));
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("Verify compile() method does not cache free-text title criteria")
+    void compile_sameTitle_returnFreshCriteria() {
+        final Criteria first = criteriaCompiler.compile(new MediaGalleryRequestDto(
+                "Title", YEARS, Type.MOVIE.name()));
+        final Criteria second = criteriaCompiler.compile(new MediaGalleryRequestDto(
+                " Title ", YEARS, "movie"));
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getCriteriaObject().get("title").toString())
+                .isEqualTo(first.getCriteriaObject().get("title").toString());
+    }
+
+    @Test
+    @DisplayName("Verify compile() method requires every selected genre for search")
+    void compile_searchWithGenresAndBlankVibe_returnAllGenresCriteria() {
+        final MediaSearchRequestDto request = new MediaSearchRequestDto(null, " ", null,
+                Type.MOVIE.name(), null, Set.of(GenreEntity.DRAMA.name().toLowerCase()));
+        final Document actual = criteriaCompiler.compile(request).getCriteriaObject();
+        assertThat(actual.get(TYPE)).isEqualTo(Type.MOVIE);
+        assertThat(actual.get("genres")).isEqualTo(new Document("$all",
+                Set.of(GenreEntity.DRAMA.name())));
+        assertThat(actual).doesNotContainKey("vibes");
+    }
+}
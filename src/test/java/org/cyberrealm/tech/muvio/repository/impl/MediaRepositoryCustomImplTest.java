@@ -1,20 +1,32 @@
 package org.cyberrealm.tech.muvio.repository.impl;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+import static org.cyberrealm.tech.muvio.common.Constants.ONE;
 import static org.cyberrealm.tech.muvio.common.Constants.TEN;
 import static org.cyberrealm.tech.muvio.common.Constants.ZERO;
 import static org.cyberrealm.tech.muvio.util.TestConstants.STRING_1;
+import static org.cyberrealm.tech.muvio.util.TestConstants.STRING_2;
 import static org.cyberrealm.tech.muvio.util.TestConstants.TITLE_1;
 import static org.cyberrealm.tech.muvio.util.TestConstants.YEAR_2020;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.cyberrealm.tech.muvio.config.AbstractMongoTest;
+import org.cyberrealm.tech.muvio.dto.MediaBaseDtoFromDb;
+import org.cyberrealm.tech.muvio.dto.MediaDtoWithPointsFromDb;
+import org.cyberrealm.tech.muvio.dto.MediaFacetsFromDb;
 import org.cyberrealm.tech.muvio.dto.MediaGalleryRequestDto;
+import org.cyberrealm.tech.muvio.dto.MediaSearchFromDb;
+import org.cyberrealm.tech.muvio.dto.MediaSearchRequestDto;
+import org.cyberrealm.tech.muvio.dto.MediaVibePageFromDb;
 import org.cyberrealm.tech.muvio.dto.MediaVibeRequestDto;
 import org.cyberrealm.tech.muvio.model.Category;
+import org.cyberrealm.tech.muvio.model.ClassificationInput;
 import org.cyberrealm.tech.muvio.model.GenreEntity;
 import org.cyberrealm.tech.muvio.model.Media;
+import org.cyberrealm.tech.muvio.model.MediaDisplay;
+import org.cyberrealm.tech.muvio.model.TopLists;
 import org.cyberrealm.tech.muvio.model.Type;
 import org.cyberrealm.tech.muvio.model.Vibe;
 import org.cyberrealm.tech.muvio.repository.MediaRepository;
@@ -24,6 +36,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 
 @DataMongoTest
 public class MediaRepositoryCustomImplTest extends AbstractMongoTest {
@@ -45,18 +58,45 @@ public class MediaRepositoryCustomImplTest extends AbstractMongoTest {
     void getAllMediaByVibes_FilteredParams_ReturnListMediaVibeRequestDto() {
         final MediaVibeRequestDto request = new MediaVibeRequestDto(
                 Vibe.BLOW_MY_MIND.name(), YEARS, Type.MOVIE.name(),
-                Set.of(Category.BASED_ON_A_TRUE_STORY.name()), ZERO, TEN);
-        final List<Media> actual = mediaRepositoryCustom.getAllMediaByVibes(request);
-        assertThat(actual).isEqualTo(List.of(getMedia()));
+                Set.of(Category.BASED_ON_A_TRUE_STORY.name()), null, ZERO, TEN);
+        final MediaVibePageFromDb actual = mediaRepositoryCustom.getAllMediaByVibes(request,
+                PageRequest.of(ZERO, TEN), TEN);
+        assertThat(actual.total()).isEqualTo(ONE);
+        assertThat(actual.content().getFirst().id()).isEqualTo(STRING_1);
+        assertThat(actual.content().getFirst().points()).isEqualTo(ONE);
+        assertThat(actual.top()).isEqualTo(actual.content());
     }
 
     @Test
     @DisplayName("Should ignore null/empty categories and still return by vibe")
     void getAllMediaByVibes_EmptyCategories_ReturnListMedia() {
         final MediaVibeRequestDto request = new MediaVibeRequestDto(
-                Vibe.BLOW_MY_MIND.name(), YEARS, Type.MOVIE.name(), Set.of(), ZERO, TEN);
-        final List<Media> actual = mediaRepositoryCustom.getAllMediaByVibes(request);
-        assertThat(actual).isEqualTo(List.of(getMedia()));
+                Vibe.BLOW_MY_MIND.name(), YEARS, Type.MOVIE.name(), Set.of(), null, ZERO,
+                TEN);
+        final MediaVibePageFromDb actual = mediaRepositoryCustom.getAllMediaByVibes(request,
+                PageRequest.of(ZERO, TEN), TEN);
+        assertThat(actual.content()).extracting(MediaDtoWithPointsFromDb::points)
+                .containsExactly(ZERO);
+    }
+
+    @Test
+    @DisplayName("Should rank media by the vibe score in the affinity ranking")
+    void getAllMediaByVibes_AffinityRanking_ReturnMediaByVibeScore() {
+        final Media weakMatch = getMedia();
+        weakMatch.setVibeScores(Map.of(Vibe.BLOW_MY_MIND, TEN));
+        final Media strongMatch = getMedia();
+        strongMatch.setId(STRING_2);
+        strongMatch.setVibes(Set.of(Vibe.KEEP_ME_ON_EDGE));
+        strongMatch.setVibeScores(Map.of(Vibe.BLOW_MY_MIND, 20, Vibe.KEEP_ME_ON_EDGE, 25));
+        mediaRepository.saveAll(List.of(weakMatch, strongMatch));
+        final MediaVibeRequestDto request = new MediaVibeRequestDto(
+                Vibe.BLOW_MY_MIND.name(), YEARS, null, Set.of(), "affinity", ZERO, TEN);
+        final MediaVibePageFromDb actual = mediaRepositoryCustom.getAllMediaByVibes(request,
+                PageRequest.of(ZERO, TEN), TEN);
+        assertThat(actual.content()).extracting(MediaDtoWithPointsFromDb::id)
+                .containsExactly(STRING_2, STRING_1);
+        assertThat(actual.top()).extracting(MediaDtoWithPointsFromDb::id)
+                .containsExactly(STRING_2, STRING_1);
     }
 
     @Test
@@ -66,7 +106,9 @@ public class MediaRepositoryCustomImplTest extends AbstractMongoTest {
                 TITLE_1, YEARS, Type.MOVIE.name());
         final List<Media> actual = mediaRepositoryCustom.getAllForGallery(
                 request, PageRequest.of(ZERO, TEN));
-        assertThat(actual).isEqualTo(List.of(getMedia()));
+        assertThat(actual).extracting(Media::getId).containsExactly(STRING_1);
+        assertThat(actual.getFirst().getTitle()).isEqualTo(TITLE_1);
+        assertThat(actual.getFirst().getVibes()).isEmpty();
     }
 
     @Test
@@ -84,9 +126,94 @@ public class MediaRepositoryCustomImplTest extends AbstractMongoTest {
     void getAllMediaByVibes_EmptyYears_ReturnListMedia() {
         final MediaVibeRequestDto request = new MediaVibeRequestDto(
                 Vibe.BLOW_MY_MIND.name(), null, Type.MOVIE.name(),
-                Set.of(Category.BASED_ON_A_TRUE_STORY.name()), ZERO, TEN);
-        final List<Media> actual = mediaRepositoryCustom.getAllMediaByVibes(request);
-        assertThat(actual).isEqualTo(List.of(getMedia()));
+                Set.of(Category.BASED_ON_A_TRUE_STORY.name()), null, ZERO, TEN);
+        final MediaVibePageFromDb actual = mediaRepositoryCustom.getAllMediaByVibes(request,
+                PageRequest.of(ZERO, TEN), TEN);
+        assertThat(actual.content()).extracting(MediaDtoWithPointsFromDb::title)
+                .containsExactly(TITLE_1);
+    }
+
+    @Test
+    @DisplayName("Should count media per type, genre, vibe, category and decade")
+    void countFacets_StoredMedia_ReturnFacetCounts() {
+        final MediaFacetsFromDb actual = mediaRepositoryCustom.countFacets();
+        assertThat(actual.total()).isEqualTo(ONE);
+        assertThat(actual.types()).isEqualTo(Map.of(Type.MOVIE.name(), 1L));
+        assertThat(actual.genres()).isEqualTo(Map.of(GenreEntity.SCIENCE_FICTION.name(), 1L));
+        assertThat(actual.vibes()).isEqualTo(Map.of(Vibe.BLOW_MY_MIND.name(), 1L));
+        assertThat(actual.categories())
+                .isEqualTo(Map.of(Category.BASED_ON_A_TRUE_STORY.name(), 1L));
+        assertThat(actual.topLists()).isEmpty();
+        assertThat(actual.decades()).isEqualTo(Map.of(String.valueOf(YEAR_2020), 1L));
+    }
+
+    @Test
+    @DisplayName("Should return the search page together with facet counts")
+    void search_FilteredParams_ReturnPageAndFacets() {
+        final MediaSearchRequestDto request = new MediaSearchRequestDto(null,
+                Vibe.BLOW_MY_MIND.name(), YEARS, null, null,
+                Set.of(GenreEntity.SCIENCE_FICTION.name()));
+        final MediaSearchFromDb actual = mediaRepositoryCustom.search(request,
+                PageRequest.of(ZERO, TEN));
+        assertThat(actual.content()).extracting(MediaBaseDtoFromDb::id)
+                .containsExactly(STRING_1);
+        assertThat(actual.facets().total()).isEqualTo(ONE);
+        assertThat(actual.facets().types()).isEqualTo(Map.of(Type.MOVIE.name(), 1L));
+    }
+
+    @Test
+    @DisplayName("Should count each facet without its own filter and ignore unknown sorts")
+    void search_TypeFilter_CountOtherTypesAndSortByWhitelist() {
+        final Media show = getMedia();
+        show.setId(STRING_2);
+        show.setType(Type.TV_SHOW);
+        mediaRepository.save(show);
+        final MediaSearchRequestDto request = new MediaSearchRequestDto(null, null, null,
+                Type.MOVIE.name(), null, null);
+        final MediaSearchFromDb actual = mediaRepositoryCustom.search(request,
+                PageRequest.of(ZERO, TEN, Sort.by("overview").and(Sort.by("id"))));
+        assertThat(actual.content()).extracting(MediaBaseDtoFromDb::id)
+                .containsExactly(STRING_1);
+        assertThat(actual.facets().total()).isEqualTo(ONE);
+        assertThat(actual.facets().types()).isEqualTo(Map.of(Type.MOVIE.name(), 1L,
+                Type.TV_SHOW.name(), 1L));
+        assertThat(actual.facets().genres())
+                .isEqualTo(Map.of(GenreEntity.SCIENCE_FICTION.name(), 1L));
+    }
+
+    @Test
+    @DisplayName("Should page stored classification inputs and update classifications")
+    void updateClassifications_StoredInputs_UpdateCategoriesVibesAndTopLists() {
+        assertThat(mediaRepositoryCustom.findClassificationInputs(null, TEN)).isEmpty();
+        final Media media = getMedia();
+        media.setClassificationInput(new ClassificationInput(List.of(UNKNOWN), TEN, 1.0, ZERO,
+                0L, Set.of()));
+        mediaRepository.save(media);
+        final List<Media> inputs = mediaRepositoryCustom.findClassificationInputs(null, TEN);
+        assertThat(inputs).extracting(Media::getId).containsExactly(STRING_1);
+        assertThat(mediaRepositoryCustom.findClassificationInputs(STRING_1, TEN)).isEmpty();
+        inputs.getFirst().setCategories(Set.of(Category.MUST_WATCH_LIST));
+        inputs.getFirst().setTopLists(Set.of(TopLists.TOP_100_SUPERHERO_MOVIES));
+        mediaRepositoryCustom.updateClassifications(inputs);
+        final Media actual = mediaRepository.findById(STRING_1).orElseThrow();
+        assertThat(actual.getCategories()).containsExactly(Category.MUST_WATCH_LIST);
+        assertThat(actual.getTopLists()).containsExactly(TopLists.TOP_100_SUPERHERO_MOVIES);
+        assertThat(actual.getTitle()).isEqualTo(TITLE_1);
+    }
+
+    @Test
+    @DisplayName("Should page media without display fields and set only the display")
+    void updateDisplays_MediaWithoutDisplay_SetDisplay() {
+        final List<Media> media = mediaRepositoryCustom.findMediaWithoutDisplay(null, TEN);
+        assertThat(media).extracting(Media::getId).containsExactly(STRING_1);
+        assertThat(media.getFirst().getTitle()).isNull();
+        assertThat(mediaRepositoryCustom.findMediaWithoutDisplay(STRING_1, TEN)).isEmpty();
+        media.getFirst().setDisplay(new MediaDisplay(null, null, Type.MOVIE.name(), Set.of()));
+        mediaRepositoryCustom.updateDisplays(media);
+        final Media actual = mediaRepository.findById(STRING_1).orElseThrow();
+        assertThat(actual.getDisplay().getType()).isEqualTo(Type.MOVIE.name());
+        assertThat(actual.getTitle()).isEqualTo(TITLE_1);
+        assertThat(mediaRepositoryCustom.findMediaWithoutDisplay(null, TEN)).isEmpty();
     }
 
     private Media getMedia() {
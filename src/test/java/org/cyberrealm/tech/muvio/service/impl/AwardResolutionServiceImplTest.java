@@ -0,0 +1,85 @@
+package org.cyberrealm.tech.muvio.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.cyberrealm.tech.muvio.model.AwardList;
+import org.cyberrealm.tech.muvio.model.AwardResolution;
+import org.cyberrealm.tech.muvio.model.ResolvedAward;
+import org.cyberrealm.tech.muvio.repository.AwardResolutionRepository;
+import org.cyberrealm.tech.muvio.util.AwardIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class AwardResolutionServiceImplTest {
+    private static final AwardList AWARD_LIST = AwardList.IMDB_TOP_250_MOVIES;
+    private static final String TITLE = "Heat (1995 film)";
+    private static final String RENAMED_TITLE = "Heat";
+    private static final String DROPPED_TITLE = "Ronin";
+    private static final String MEDIA_ID = "949";
+    private static final String DROPPED_MEDIA_ID = "8195";
+    private static final int RELEASE_YEAR = 1995;
+    private static final int ZERO_YEAR = 0;
+    @Mock
+    private AwardResolutionRepository awardResolutionRepository;
+    @InjectMocks
+    private AwardResolutionServiceImpl awardResolutionService;
+
+    @Test
+    @DisplayName("Verify save() method stores the titles and the resolved ids of the award list")
+    void save_resolvedIndex_saveTitlesAndResolvedAwards() {
+        awardResolutionService.save(AWARD_LIST, Set.of(TITLE), AwardIndex.of(Set.of(TITLE),
+                Map.of(TITLE, MEDIA_ID)));
+        final ArgumentCaptor<AwardResolution> captor = ArgumentCaptor.forClass(
+                AwardResolution.class);
+        verify(awardResolutionRepository).save(captor.capture());
+        assertThat(captor.getValue().getId()).isEqualTo(AWARD_LIST.name());
+        assertThat(captor.getValue().getTitles()).containsExactly(TITLE);
+        assertThat(captor.getValue().getAwards())
+                .containsExactly(new ResolvedAward(TITLE, MEDIA_ID));
+    }
+
+    @Test
+    @DisplayName("Verify getAwardIndex() method matches by the ids stored in the last sync")
+    void getAwardIndex_storedResolution_matchByResolvedIds() {
+        when(awardResolutionRepository.findById(AWARD_LIST.name())).thenReturn(Optional.of(
+                new AwardResolution(AWARD_LIST.name(), List.of(TITLE, DROPPED_TITLE), List.of(
+                        new ResolvedAward(TITLE, MEDIA_ID),
+                        new ResolvedAward(DROPPED_TITLE, DROPPED_MEDIA_ID)), null)));
+        final AwardIndex awardIndex = awardResolutionService.getAwardIndex(AWARD_LIST);
+        assertThat(awardIndex.getIds()).containsExactlyInAnyOrder(MEDIA_ID, DROPPED_MEDIA_ID);
+        assertThat(awardIndex.contains(MEDIA_ID, RENAMED_TITLE, RELEASE_YEAR)).isTrue();
+        assertThat(awardIndex.contains("1", RENAMED_TITLE, RELEASE_YEAR)).isFalse();
+        assertThat(awardIndex.contains(DROPPED_MEDIA_ID, DROPPED_TITLE, ZERO_YEAR)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Verify getAwardIndex() method matches stored titles without a resolved id")
+    void getAwardIndex_unresolvedTitle_matchByTitle() {
+        when(awardResolutionRepository.findById(AWARD_LIST.name())).thenReturn(Optional.of(
+                new AwardResolution(AWARD_LIST.name(), List.of(TITLE), List.of(), null)));
+        final AwardIndex awardIndex = awardResolutionService.getAwardIndex(AWARD_LIST);
+        assertThat(awardIndex.getIds()).isEmpty();
+        assertThat(awardIndex.contains("1", RENAMED_TITLE, RELEASE_YEAR)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Verify getAwardIndex() method returns an empty index before the first sync")
+    void getAwardIndex_noStoredResolution_emptyIndex() {
+        when(awardResolutionRepository.findById(AWARD_LIST.name())).thenReturn(Optional.empty());
+        final AwardIndex awardIndex = awardResolutionService.getAwardIndex(AWARD_LIST);
+        assertThat(awardIndex.getIds()).isEmpty();
+        assertThat(awardIndex.contains("1", RENAMED_TITLE, RELEASE_YEAR)).isFalse();
+    }
+}
@@ -0,0 +1,71 @@
+package org.cyberrealm.tech.muvio.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import org.cyberrealm.tech.muvio.model.CatalogueState;
+import org.cyberrealm.tech.muvio.repository.CatalogueStateRepository;
+import org.cyberrealm.tech.muvio.service.MediaSamplingService;
+import org.cyberrealm.tech.muvio.service.StatisticsService;
+import org.cyberrealm.tech.muvio.service.TopListRankingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+@ExtendWith(MockitoExtension.class)
+public class CatalogueServiceImplTest {
+    private static final String CATALOGUE_ID = "catalogue";
+    private static final String CACHE_NAME = "mediaJson";
+    private static final long STORED_VERSION = 7L;
+    @Mock
+    private CatalogueStateRepository catalogueStateRepository;
+    @Mock
+    private MediaSamplingService mediaSamplingService;
+    @Mock
+    private StatisticsService statisticsService;
+    @Mock
+    private TopListRankingService topListRankingService;
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private Cache cache;
+    @InjectMocks
+    private CatalogueServiceImpl catalogueService;
+
+    @Test
+    @DisplayName("Verify getVersion() method loads the stored version only once")
+    void getVersion_storedVersion_returnStoredVersion() {
+        when(catalogueStateRepository.findById(CATALOGUE_ID)).thenReturn(Optional.of(
+                new CatalogueState(CATALOGUE_ID, STORED_VERSION, Instant.now())));
+        assertThat(catalogueService.getVersion()).isEqualTo(STORED_VERSION);
+        assertThat(catalogueService.getVersion()).isEqualTo(STORED_VERSION);
+        verify(catalogueStateRepository, times(1)).findById(CATALOGUE_ID);
+    }
+
+    @Test
+    @DisplayName("Verify refresh() method bumps the version and clears every cache")
+    void refresh_storedVersion_bumpVersionAndClearCaches() {
+        when(catalogueStateRepository.findById(CATALOGUE_ID)).thenReturn(Optional.of(
+                new CatalogueState(CATALOGUE_ID, STORED_VERSION, Instant.now())));
+        when(cacheManager.getCacheNames()).thenReturn(List.of(CACHE_NAME));
+        when(cacheManager.getCache(CACHE_NAME)).thenReturn(cache);
+        catalogueService.refresh();
+        assertThat(catalogueService.getVersion()).isEqualTo(STORED_VERSION + 1);
+        verify(mediaSamplingService).refresh();
+        verify(statisticsService).refresh();
+        verify(topListRankingService).refresh();
+        verify(catalogueStateRepository).save(any(CatalogueState.class));
+        verify(cache).clear();
+    }
+}
@@ -0,0 +1,90 @@
+package org.cyberrealm.tech.muvio.service.impl;
+
+import static org.cyberrealm.tech.muvio.common.Constants.ONE;
+import static org.cyberrealm.tech.muvio.common.Constants.ZERO;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.cyberrealm.tech.muvio.util.KeywordMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CategoryMatchingBenchmark {
+    private static final long SEED = 42L;
+    private static final int VOCABULARY_SIZE = 3000;
+    private static final int OVERVIEW_WORDS = 60;
+    private static final int MAX_KEYWORD_WORDS = 3;
+    private static final int WORD_LENGTH = 7;
+    private static final String BEFORE_KEYWORD = ".*\\b";
+    private static final String AFTER_KEYWORD = "\\b.*";
+    @Param({"500", "1800"})
+    protected int keywordCount;
+    private List<String> keywords;
+    private KeywordMatcher keywordMatcher;
+    private String overview;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(SEED);
+        final List<String> vocabulary = new ArrayList<>(VOCABULARY_SIZE);
+        for (int i = ZERO; i < VOCABULARY_SIZE; i++) {
+            final StringBuilder word = new StringBuilder(WORD_LENGTH);
+            for (int j = ZERO; j < WORD_LENGTH; j++) {
+                word.append((char) ('a' + random.nextInt('z' - 'a' + ONE)));
+            }
+            vocabulary.add(word.toString());
+        }
+        final Set<String> uniqueKeywords = new LinkedHashSet<>();
+        while (uniqueKeywords.size() < keywordCount) {
+            final int words = ONE + random.nextInt(MAX_KEYWORD_WORDS);
+            final List<String> phrase = new ArrayList<>(words);
+            for (int i = ZERO; i < words; i++) {
+                phrase.add(vocabulary.get(random.nextInt(VOCABULARY_SIZE)));
+            }
+            uniqueKeywords.add(String.join(" ", phrase));
+        }
+        keywords = List.copyOf(uniqueKeywords);
+        keywordMatcher = new KeywordMatcher(keywords);
+        final List<String> text = new ArrayList<>(OVERVIEW_WORDS);
+        for (int i = ZERO; i < OVERVIEW_WORDS; i++) {
+            text.add(vocabulary.get(random.nextInt(VOCABULARY_SIZE)));
+        }
+        overview = String.join(" ", text);
+    }
+
+    @Benchmark
+    public BitSet regexPerKeyword() {
+        final BitSet matches = new BitSet(keywords.size());
+        for (int i = ZERO; i < keywords.size(); i++) {
+            if (overview.matches(BEFORE_KEYWORD + keywords.get(i) + AFTER_KEYWORD)) {
+                matches.set(i);
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public BitSet keywordAutomaton() {
+        return keywordMatcher.findWords(overview);
+    }
+}
@@ -5,38 +5,76 @@ import static org.cyberrealm.tech.muvio.util.TestConstants.MEDIA_1;
 import static org.cyberrealm.tech.muvio.util.TestConstants.TRUE_STORY;
 import static org.cyberrealm.tech.muvio.util.TestConstants.VOTE_AVERAGE_8;
 
-import info.movito.themoviedbapi.model.keywords.Keyword;
-import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.cyberrealm.tech.muvio.model.Category;
-import org.junit.jupiter.api.BeforeAll;
+import org.cyberrealm.tech.muvio.util.AwardIndex;
+import org.cyberrealm.tech.muvio.util.KeywordDictionary;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 public class CategoryServiceImplTest {
     private static final String OVERVIEW = "Film based on true story";
-    private static final List<Keyword> KEYWORDS = new ArrayList<>();
-    private static final Keyword KEYWORD = new Keyword();
+    private static final String SPORT_OVERVIEW = "A biopic of a boxing champion.";
+    private static final String PARTIAL_WORD_OVERVIEW = "Transported";
     private static final double POPULARITY = 5;
+    private static final double ZERO_RATING = 0;
+    private static final int ZERO_VOTES = 0;
+    private static final double ZERO_POPULARITY = 0;
     private static final int VOTE_COUNT = 2000;
-    private static final Set<String> IMDB_TOP_250 = new HashSet<>();
-    private static final CategoryServiceImpl categoryService = new CategoryServiceImpl();
-
-    @BeforeAll
-    static void beforeAll() {
-        KEYWORD.setName(TRUE_STORY);
-        KEYWORDS.add(KEYWORD);
-        IMDB_TOP_250.add(MEDIA_1);
-    }
+    private static final String ID = "42";
+    private static final String OTHER_ID = "43";
+    private static final int RELEASE_YEAR = 1994;
+    private static final AwardIndex IMDB_TOP_250 = AwardIndex.of(Set.of(MEDIA_1));
+    private static final AwardIndex RESOLVED_TOP_250 = AwardIndex.of(
+            Set.of("The Shawshank Redemption", "Léon (1994 film)"),
+            Map.of("The Shawshank Redemption", ID));
+    private final KeywordDictionary keywordDictionary = new KeywordDictionary();
+    private final CategoryServiceImpl categoryService = new CategoryServiceImpl(
+            keywordDictionary);
+    private final BitSet keywords = keywordDictionary.toIdSet(List.of(TRUE_STORY));
 
     @Test
     @DisplayName("Verify putCategories() method works")
     public void putCategories_ValidResponse_ReturnSetCategories() {
-        assertThat(categoryService.putCategories(OVERVIEW, KEYWORDS, VOTE_AVERAGE_8, VOTE_COUNT,
-                POPULARITY, IMDB_TOP_250, MEDIA_1)).containsExactlyInAnyOrder(
+        assertThat(categoryService.putCategories(OVERVIEW, keywords, VOTE_AVERAGE_8, VOTE_COUNT,
+                POPULARITY, IMDB_TOP_250, ID, MEDIA_1, RELEASE_YEAR)).containsExactlyInAnyOrder(
                         Category.BASED_ON_A_TRUE_STORY, Category.IMD_TOP_250,
                 Category.MUST_WATCH_LIST);
     }
+
+    @Test
+    @DisplayName("Verify putCategories() method counts every overview keyword once")
+    public void putCategories_OverviewKeywords_ReturnBestCategory() {
+        assertThat(categoryService.putCategories(SPORT_OVERVIEW, new BitSet(), ZERO_RATING,
+                ZERO_VOTES, ZERO_POPULARITY, AwardIndex.of(Set.of()), ID, MEDIA_1, RELEASE_YEAR))
+                .containsExactly(Category.SPORT_LIFE_PLOTS);
+    }
+
+    @Test
+    @DisplayName("Verify putCategories() method matches overview keywords as whole words")
+    public void putCategories_KeywordInsideWord_ReturnDefaultCategory() {
+        assertThat(categoryService.putCategories(PARTIAL_WORD_OVERVIEW, new BitSet(), ZERO_RATING,
+                ZERO_VOTES, ZERO_POPULARITY, AwardIndex.of(Set.of()), ID, MEDIA_1, RELEASE_YEAR))
+                .containsExactly(Category.LIFE_CHANGING_MOVIES);
+    }
+
+    @Test
+    @DisplayName("Verify putCategories() method matches award titles by id, name and year")
+    public void putCategories_AwardIndex_MatchNormalisedTitles() {
+        assertThat(categoryService.putCategories(OVERVIEW, keywords, ZERO_RATING, ZERO_VOTES,
+                ZERO_POPULARITY, RESOLVED_TOP_250, ID, "Shawshank", RELEASE_YEAR))
+                .contains(Category.IMD_TOP_250);
+        assertThat(categoryService.putCategories(OVERVIEW, keywords, ZERO_RATING, ZERO_VOTES,
+                ZERO_POPULARITY, RESOLVED_TOP_250, OTHER_ID, "Shawshank Redemption",
+                RELEASE_YEAR)).doesNotContain(Category.IMD_TOP_250);
+        assertThat(categoryService.putCategories(OVERVIEW, keywords, ZERO_RATING, ZERO_VOTES,
+                ZERO_POPULARITY, RESOLVED_TOP_250, OTHER_ID, "LEON", RELEASE_YEAR))
+                .contains(Category.IMD_TOP_250);
+        assertThat(categoryService.putCategories(OVERVIEW, keywords, ZERO_RATING, ZERO_VOTES,
+                ZERO_POPULARITY, RESOLVED_TOP_250, OTHER_ID, "Leon", RELEASE_YEAR + 20))
+                .doesNotContain(Category.IMD_TOP_250);
+    }
 }
@@ -0,0 +1,168 @@
+package org.cyberrealm.tech.muvio.service.impl;
+
+import static org.cyberrealm.tech.muvio.common.Constants.TWO;
+import static org.cyberrealm.tech.muvio.common.Constants.ZERO;
+
+import com.sun.management.OperatingSystemMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.cyberrealm.tech.muvio.model.Category;
+import org.cyberrealm.tech.muvio.util.AwardIndex;
+import org.cyberrealm.tech.muvio.util.KeywordDictionary;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CategoryThreadingBenchmark {
+    private static final long SEED = 42L;
+    private static final int LIMIT_THREADS =
+            Math.min(50, Runtime.getRuntime().availableProcessors() * 3);
+    private static final int KEYWORDS_PER_CATEGORY = 60;
+    private static final int KEYWORDS_PER_TITLE = 12;
+    private static final String KEYWORD = "keyword ";
+    private static final String OVERVIEW = "A young detective uncovers a conspiracy in a small "
+            + "town while a family secret threatens the people closest to her.";
+    private static final AwardIndex NO_AWARDS = AwardIndex.of(List.of());
+    @Param({"5000"})
+    protected int titles;
+    private List<Set<String>> categoryKeywords;
+    private List<Set<String>> titleKeywords;
+    private List<BitSet> titleKeywordIds;
+    private KeywordDictionary keywordDictionary;
+    private CategoryServiceImpl categoryService;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(SEED);
+        final int vocabularySize = Category.values().length * KEYWORDS_PER_CATEGORY;
+        keywordDictionary = new KeywordDictionary();
+        categoryKeywords = new ArrayList<>(Category.values().length);
+        for (int category = ZERO; category < Category.values().length; category++) {
+            final Set<String> keywords = new HashSet<>(KEYWORDS_PER_CATEGORY);
+            for (int i = ZERO; i < KEYWORDS_PER_CATEGORY; i++) {
+                keywords.add(KEYWORD + (category * KEYWORDS_PER_CATEGORY + i));
+            }
+            keywords.forEach(keywordDictionary::register);
+            categoryKeywords.add(keywords);
+        }
+        titleKeywords = new ArrayList<>(titles);
+        titleKeywordIds = new ArrayList<>(titles);
+        for (int title = ZERO; title < titles; title++) {
+            final Set<String> keywords = new HashSet<>(KEYWORDS_PER_TITLE);
+            for (int i = ZERO; i < KEYWORDS_PER_TITLE; i++) {
+                keywords.add(KEYWORD + random.nextInt(vocabularySize));
+            }
+            titleKeywords.add(keywords);
+            titleKeywordIds.add(keywordDictionary.toIdSet(keywords));
+        }
+        categoryService = new CategoryServiceImpl(keywordDictionary);
+    }
+
+    @Benchmark
+    public long forkJoinPoolPerTitle(ThreadCounters counters) {
+        return counters.measure(() -> titleKeywords.parallelStream()
+                .mapToInt(keywords -> scoreInOwnPool(keywords) + categoryService.putCategories(
+                        OVERVIEW, new BitSet(), 8.0, 2000, 5.0, NO_AWARDS, null, null, ZERO)
+                        .size())
+                .sum());
+    }
+
+    @Benchmark
+    public long callingThread(ThreadCounters counters) {
+        return counters.measure(() -> titleKeywordIds.parallelStream()
+                .mapToInt(keywordIds -> categoryService.putCategories(OVERVIEW, keywordIds,
+                        8.0, 2000, 5.0, NO_AWARDS, null, null, ZERO).size())
+                .sum());
+    }
+
+    private int scoreInOwnPool(Set<String> keywords) {
+        final Map<Integer, Integer> scores = new ConcurrentHashMap<>();
+        try (ForkJoinPool pool = new ForkJoinPool(LIMIT_THREADS)) {
+            pool.submit(() -> {
+                for (int category = ZERO; category < categoryKeywords.size(); category++) {
+                    final int index = category;
+                    categoryKeywords.get(category).parallelStream().forEach(keyword -> {
+                        if (keywords.contains(keyword)) {
+                            scores.merge(index, TWO, Integer::sum);
+                        }
+                    });
+                }
+            }).get();
+        } catch (ExecutionException | InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+        return scores.size();
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class ThreadCounters {
+        private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+        private static final OperatingSystemMXBean OPERATING_SYSTEM =
+                (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+        private long threadsStarted;
+        private long peakThreads;
+        private long cpuMillis;
+        private long startedBefore;
+        private long cpuBefore;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            threadsStarted = ZERO;
+            peakThreads = ZERO;
+            cpuMillis = ZERO;
+        }
+
+        public long threadsStarted() {
+            return threadsStarted;
+        }
+
+        public long peakThreads() {
+            return peakThreads;
+        }
+
+        public long cpuMillis() {
+            return cpuMillis;
+        }
+
+        long measure(LongSupplier work) {
+            THREADS.resetPeakThreadCount();
+            startedBefore = THREADS.getTotalStartedThreadCount();
+            cpuBefore = OPERATING_SYSTEM.getProcessCpuTime();
+            final long result = work.getAsLong();
+            threadsStarted += THREADS.getTotalStartedThreadCount() - startedBefore;
+            peakThreads = Math.max(peakThreads, THREADS.getPeakThreadCount());
+            cpuMillis += TimeUnit.NANOSECONDS.toMillis(OPERATING_SYSTEM.getProcessCpuTime()
+                    - cpuBefore);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.cyberrealm.tech.muvio.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.cyberrealm.tech.muvio.model.Category;
+import org.cyberrealm.tech.muvio.model.ClassificationInput;
+import org.cyberrealm.tech.muvio.model.GenreEntity;
+import org.cyberrealm.tech.muvio.model.Media;
+import org.cyberrealm.tech.muvio.model.TopLists;
+import org.cyberrealm.tech.muvio.model.Type;
+import org.cyberrealm.tech.muvio.model.Vibe;
+import org.cyberrealm.tech.muvio.service.CategoryService;
+import org.cyberrealm.tech.muvio.service.TopListService;
+import org.cyberrealm.tech.muvio.service.VibeService;
+import org.cyberrealm.tech.muvio.util.AwardIndex;
+import org.cyberrealm.tech.muvio.util.KeywordDictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ClassificationServiceImplTest {
+    private static final String ID = "42";
+    private static final String TITLE = "Title";
+    private static final int RELEASE_YEAR = 2020;
+    private static final String OVERVIEW = "An Overview";
+    private static final List<String> KEYWORDS = List.of("superhero");
+    private static final Set<String> CONTENT_RATINGS = Set.of("PG-13");
+    private static final AwardIndex TOP_250 = AwardIndex.of(Set.of());
+    private static final AwardIndex WINNING_MEDIA = AwardIndex.of(Set.of());
+    private static final int BUDGET = 30_000_000;
+    private static final long REVENUE = 90_000_000L;
+    private static final int VIBE_SCORE = 18;
+    @Mock
+    private CategoryService categoryService;
+    @Mock
+    private VibeService vibeService;
+    @Mock
+    private TopListService topListService;
+    @Spy
+    private KeywordDictionary keywordDictionary = new KeywordDictionary();
+    @InjectMocks
+    private ClassificationServiceImpl classificationService;
+    private BitSet keywordIds;
+
+    @BeforeEach
+    void setUp() {
+        KEYWORDS.forEach(keywordDictionary::register);
+        keywordIds = keywordDictionary.toIdSet(KEYWORDS);
+    }
+
+    @Test
+    @DisplayName("Verify classify() method applies movie classifications from the batch")
+    void classify_movie_applyCategoriesVibesAndTopLists() {
+        final Media media = getMedia(Type.MOVIE);
+        when(categoryService.putCategories(eq(OVERVIEW.toLowerCase()), eq(keywordIds),
+                anyDouble(), anyInt(), anyDouble(), eq(TOP_250), eq(ID), eq(TITLE),
+                eq(RELEASE_YEAR)))
+                .thenReturn(Set.of(Category.MUST_WATCH_LIST));
+        doAnswer(invocation -> {
+            invocation.<int[]>getArgument(2)[Vibe.BLOW_MY_MIND.ordinal()] = VIBE_SCORE;
+            return null;
+        }).when(vibeService).addScores(eq(CONTENT_RATINGS), eq(media.getGenres()),
+                any(int[].class));
+        when(vibeService.getVibes(any(int[].class))).thenReturn(Set.of(Vibe.BLOW_MY_MIND));
+        when(topListService.putTopLists(eq(keywordIds), anyDouble(), anyInt(), anyDouble(),
+                eq(RELEASE_YEAR), eq(WINNING_MEDIA), eq(ID), eq(TITLE), eq(BUDGET),
+                eq(REVENUE)))
+                .thenReturn(Set.of(TopLists.TOP_100_SUPERHERO_MOVIES));
+        classificationService.classify(List.of(media), TOP_250, WINNING_MEDIA);
+        assertThat(media.getCategories()).containsExactly(Category.MUST_WATCH_LIST);
+        assertThat(media.getVibes()).containsExactly(Vibe.BLOW_MY_MIND);
+        assertThat(media.getVibeScores()).isEqualTo(Map.of(Vibe.BLOW_MY_MIND, VIBE_SCORE));
+        assertThat(media.getTopLists()).containsExactly(TopLists.TOP_100_SUPERHERO_MOVIES);
+    }
+
+    @Test
+    @DisplayName("Verify classify() method uses the TV show top list rules for TV shows")
+    void classify_tvShow_applyTvShowTopLists() {
+        final Media media = getMedia(Type.TV_SHOW);
+        when(topListService.putTopListsForTvShow(eq(keywordIds), anyDouble(), anyInt(),
+                anyDouble(), eq(RELEASE_YEAR), eq(WINNING_MEDIA), eq(ID), eq(TITLE)))
+                .thenReturn(Set.of(TopLists.TOP_EMMY_WINNING_MASTERPIECES));
+        classificationService.classify(List.of(media), TOP_250, WINNING_MEDIA);
+        assertThat(media.getTopLists()).containsExactly(TopLists.TOP_EMMY_WINNING_MASTERPIECES);
+        verify(topListService, never()).putTopLists(any(), anyDouble(), anyInt(), anyDouble(),
+                anyInt(), any(), any(), any(), anyInt(), anyLong());
+    }
+
+    private Media getMedia(Type type) {
+        final Media media = new Media();
+        media.setId(ID);
+        media.setTitle(TITLE);
+        media.setOverview(OVERVIEW);
+        media.setType(type);
+        media.setRating(8.0);
+        media.setReleaseYear(RELEASE_YEAR);
+        media.setGenres(Set.of(GenreEntity.SCIENCE_FICTION));
+        media.setClassificationInput(new ClassificationInput(KEYWORDS, 2000, 5.0, BUDGET,
+                REVENUE, CONTENT_RATINGS));
+        return media;
+    }
+}
@@ -26,7 +26,6 @@ import info.movito.themoviedbapi.model.tv.series.CreatedBy;
 import info.movito.themoviedbapi.model.tv.series.TvSeriesDb;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import org.cyberrealm.tech.muvio.mapper.ActorMapper;
 import org.cyberrealm.tech.muvio.mapper.MediaMapper;
@@ -34,10 +33,7 @@ import org.cyberrealm.tech.muvio.mapper.ReviewMapper;
 import org.cyberrealm.tech.muvio.model.Actor;
 import org.cyberrealm.tech.muvio.model.Media;
 import org.cyberrealm.tech.muvio.model.Review;
-import org.cyberrealm.tech.muvio.service.CategoryService;
 import org.cyberrealm.tech.muvio.service.TmDbService;
-import org.cyberrealm.tech.muvio.service.TopListService;
-import org.cyberrealm.tech.muvio.service.VibeService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -52,17 +48,11 @@ public class MediaFactoryImplTest {
     @Mock
     private TmDbService tmdbService;
     @Mock
-    private CategoryService categoryService;
-    @Mock
-    private VibeService vibeService;
-    @Mock
     private MediaMapper mediaMapper;
     @Mock
     private ActorMapper actorMapper;
     @Mock
     private ReviewMapper reviewMapper;
-    @Mock
-    private TopListService topListService;
     @InjectMocks
     private MediaFactoryImpl mediaFactory;
 
@@ -77,16 +67,11 @@ public class MediaFactoryImplTest {
         when(mediaMapper.toEntity(any(MovieDb.class))).thenReturn(media);
         when(tmdbService.fetchMovieCredits(anyInt(), anyString())).thenReturn(getCredits());
         when(actorMapper.toActorEntity(any(Cast.class))).thenReturn(actor);
-        when(vibeService.getVibes(any(), any())).thenReturn(Set.of());
-        when(categoryService.putCategories(any(), any(), any(), any(), any(), any(), any()))
-                .thenReturn(Set.of());
-        when(topListService.putTopLists(any(), any(), any(), any(), any(), any(), any(), any(),
-                any())).thenReturn(Set.of());
         when(tmdbService.fetchMovieReviews(any(), anyInt())).thenReturn(tmDbReviews);
         when(reviewMapper.toEntity(any())).thenReturn(getReview());
         final Map<Integer, Actor> actors = new ConcurrentHashMap<>();
-        assertThat(mediaFactory.createMovie(LANGUAGE_EN, THREE, Set.of(), Set.of(), actors))
-                .isEqualTo(media);
+        assertThat(mediaFactory.createMovie(LANGUAGE_EN, THREE, actors)).isEqualTo(media);
+        assertThat(media.getClassificationInput()).isNotNull();
         assertThat(actors.get(TWO)).isEqualTo(actor);
     }
 
@@ -102,16 +87,11 @@ public class MediaFactoryImplTest {
         when(tmdbService.fetchTvSerialsCredits(anyInt(), anyString())).thenReturn(getTvCredits());
         when(actorMapper.toActorEntity(any(
                 info.movito.themoviedbapi.model.tv.core.credits.Cast.class))).thenReturn(actor);
-        when(vibeService.getVibes(any(), any())).thenReturn(Set.of());
-        when(categoryService.putCategories(any(), any(), any(), any(), any(), any(), any()))
-                .thenReturn(Set.of());
-        when(topListService.putTopListsForTvShow(any(), any(), any(), any(), any(), any(), any()))
-                .thenReturn(Set.of());
         when(tmdbService.fetchTvSerialsReviews(any(), anyInt())).thenReturn(tmDbReviews);
         when(reviewMapper.toEntity(any())).thenReturn(getReview());
         final Map<Integer, Actor> actors = new ConcurrentHashMap<>();
-        assertThat(mediaFactory.createTvSerial(LANGUAGE_EN, THREE, Set.of(), Set.of(), actors))
-                .isEqualTo(media);
+        assertThat(mediaFactory.createTvSerial(LANGUAGE_EN, THREE, actors)).isEqualTo(media);
+        assertThat(media.getClassificationInput()).isNotNull();
         assertThat(actors.get(TWO)).isEqualTo(actor);
     }
 
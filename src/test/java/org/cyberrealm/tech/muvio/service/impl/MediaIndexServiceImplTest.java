@@ -0,0 +1,78 @@
+package org.cyberrealm.tech.muvio.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.bson.Document;
+import org.cyberrealm.tech.muvio.model.Media;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+
+@ExtendWith(MockitoExtension.class)
+public class MediaIndexServiceImplTest {
+    private static final String COLLECTION_NAME = "media";
+    private static final int INDEX_COUNT = 11;
+    private static final String TYPE_RELEASE_YEAR_INDEX = "type_releaseYear";
+    private static final String QUERY_PLANNER = "queryPlanner";
+    private static final String WINNING_PLAN = "winningPlan";
+    private static final String STAGE = "stage";
+    private static final String INPUT_STAGE = "inputStage";
+    @Mock
+    private MongoTemplate mongoTemplate;
+    @Mock
+    private IndexOperations indexOperations;
+    @InjectMocks
+    private MediaIndexServiceImpl mediaIndexService;
+
+    @Test
+    @DisplayName("Verify ensureIndexes() method creates every declared index")
+    void ensureIndexes_validResponse_shouldEnsureAllIndexes() {
+        when(mongoTemplate.indexOps(Media.class)).thenReturn(indexOperations);
+        mediaIndexService.ensureIndexes();
+        verify(indexOperations, times(INDEX_COUNT)).ensureIndex(any(IndexDefinition.class));
+    }
+
+    @Test
+    @DisplayName("Verify findMissingIndexes() method reports absent indexes")
+    void findMissingIndexes_oneIndexExists_returnOtherIndexes() {
+        when(mongoTemplate.indexOps(Media.class)).thenReturn(indexOperations);
+        when(indexOperations.getIndexInfo()).thenReturn(List.of(new IndexInfo(List.of(),
+                TYPE_RELEASE_YEAR_INDEX, false, false, null)));
+        assertThat(mediaIndexService.findMissingIndexes()).hasSize(INDEX_COUNT - 1)
+                .doesNotContain(TYPE_RELEASE_YEAR_INDEX);
+    }
+
+    @Test
+    @DisplayName("Verify findCollectionScans() method detects nested COLLSCAN stages")
+    void findCollectionScans_collectionScanPlan_returnAllQueryShapes() {
+        when(mongoTemplate.getCollectionName(Media.class)).thenReturn(COLLECTION_NAME);
+        when(mongoTemplate.executeCommand(any(Document.class))).thenReturn(new Document(
+                QUERY_PLANNER, new Document(WINNING_PLAN, new Document(STAGE, "SORT")
+                        .append(INPUT_STAGE, new Document(STAGE, "COLLSCAN")))));
+        assertThat(mediaIndexService.findCollectionScans()).containsExactly(
+                "findMoviesByTypeGenreAndYears", "getAllForGallery", "getAllMediaByVibes",
+                "getAllMediaByVibesAffinity");
+    }
+
+    @Test
+    @DisplayName("Verify findCollectionScans() method ignores index scans")
+    void findCollectionScans_indexScanPlan_returnEmptyList() {
+        when(mongoTemplate.getCollectionName(Media.class)).thenReturn(COLLECTION_NAME);
+        when(mongoTemplate.executeCommand(any(Document.class))).thenReturn(new Document(
+                QUERY_PLANNER, new Document(WINNING_PLAN, new Document(STAGE, "FETCH")
+                        .append(INPUT_STAGE, new Document(STAGE, "IXSCAN")))));
+        assertThat(mediaIndexService.findCollectionScans()).isEmpty();
+    }
+}
@@ -0,0 +1,48 @@
+package org.cyberrealm.tech.muvio.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+import org.cyberrealm.tech.muvio.dto.MediaDto;
+import org.cyberrealm.tech.muvio.dto.SerializedMedia;
+import org.cyberrealm.tech.muvio.service.MediaService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class MediaJsonServiceImplTest {
+    private static final String ID = "1";
+    private static final String TITLE = "Title";
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    @Mock
+    private MediaService mediaService;
+    private MediaJsonServiceImpl mediaJsonService;
+
+    @BeforeEach
+    void setUp() {
+        mediaJsonService = new MediaJsonServiceImpl(mediaService, objectMapper);
+    }
+
+    @Test
+    @DisplayName("Verify getSerializedMediaById() method returns plain and gzip json")
+    void getSerializedMediaById_existingId_returnSerializedMedia() throws IOException {
+        final MediaDto mediaDto = new MediaDto(ID, TITLE, Set.of(), null, null, null, null,
+                null, Set.of(), List.of(), List.of(), null, List.of(), null, null);
+        when(mediaService.getMediaById(ID)).thenReturn(mediaDto);
+        final SerializedMedia actual = mediaJsonService.getSerializedMediaById(ID);
+        assertThat(objectMapper.readValue(actual.json(), MediaDto.class)).isEqualTo(mediaDto);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(actual.gzip()))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(actual.json());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.cyberrealm.tech.muvio.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.cyberrealm.tech.muvio.dto.PosterDto;
+import org.cyberrealm.tech.muvio.repository.MediaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+public class MediaSamplingServiceImplTest {
+    private static final int POOL_SIZE = 20;
+    private static final int SAMPLE_SIZE = 5;
+    private static final String POSTER_PATH = "/poster.jpg";
+    @Mock
+    private MediaRepository mediaRepository;
+    @InjectMocks
+    private MediaSamplingServiceImpl mediaSamplingService;
+
+    @Test
+    @DisplayName("Verify sampleIds() method returns empty before the pool is refreshed")
+    void sampleIds_poolNotRefreshed_returnEmpty() {
+        assertThat(mediaSamplingService.sampleIds(SAMPLE_SIZE)).isEmpty();
+        assertThat(mediaSamplingService.samplePosters(SAMPLE_SIZE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Verify warmUp() method keeps startup alive when Mongo is unavailable")
+    void warmUp_mongoUnavailable_leavePoolEmpty() {
+        ReflectionTestUtils.setField(mediaSamplingService, "warmupEnabled", true);
+        when(mediaRepository.findAllPosters())
+                .thenThrow(new DataAccessResourceFailureException("Mongo is down"));
+        mediaSamplingService.warmUp();
+        assertThat(mediaSamplingService.sampleIds(SAMPLE_SIZE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Verify sampleIds() method draws distinct ids from the pool")
+    void sampleIds_poolRefreshed_returnDistinctIds() {
+        final List<PosterDto> posters = getPosters();
+        when(mediaRepository.findAllPosters()).thenReturn(posters);
+        mediaSamplingService.refresh();
+        final List<String> ids = mediaSamplingService.sampleIds(SAMPLE_SIZE).orElseThrow();
+        assertThat(ids).hasSize(SAMPLE_SIZE).doesNotHaveDuplicates()
+                .isSubsetOf(posters.stream().map(PosterDto::id).toList());
+    }
+
+    @Test
+    @DisplayName("Verify samplePosters() method skips media without a poster")
+    void samplePosters_sizeExceedsPool_returnAllPostersWithPath() {
+        when(mediaRepository.findAllPosters()).thenReturn(getPosters());
+        mediaSamplingService.refresh();
+        final Optional<List<PosterDto>> posters = mediaSamplingService.samplePosters(POOL_SIZE);
+        assertThat(posters).isPresent();
+        assertThat(posters.get()).hasSize(POOL_SIZE / 2).doesNotHaveDuplicates()
+                .allMatch(poster -> POSTER_PATH.equals(poster.posterPath()));
+    }
+
+    private List<PosterDto> getPosters() {
+        return IntStream.range(0, POOL_SIZE)
+                .mapToObj(index -> new PosterDto(String.valueOf(index),
+                        index % 2 == 0 ? POSTER_PATH : null))
+                .toList();
+    }
+}
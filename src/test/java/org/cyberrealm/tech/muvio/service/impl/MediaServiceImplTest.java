@@ -36,28 +36,47 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import org.cyberrealm.tech.muvio.dto.CatalogueStatisticsDto;
+import org.cyberrealm.tech.muvio.dto.MainPageInfoDto;
 import org.cyberrealm.tech.muvio.dto.MediaBaseDto;
+import org.cyberrealm.tech.muvio.dto.MediaBaseDtoFromDb;
+import org.cyberrealm.tech.muvio.dto.MediaBatchDto;
 import org.cyberrealm.tech.muvio.dto.MediaDto;
 import org.cyberrealm.tech.muvio.dto.MediaDtoFromDb;
 import org.cyberrealm.tech.muvio.dto.MediaDtoWithCast;
-import org.cyberrealm.tech.muvio.dto.MediaDtoWithCastFromDb;
 import org.cyberrealm.tech.muvio.dto.MediaDtoWithPoints;
+import org.cyberrealm.tech.muvio.dto.MediaDtoWithPointsFromDb;
+import org.cyberrealm.tech.muvio.dto.MediaFacetsDto;
+import org.cyberrealm.tech.muvio.dto.MediaFacetsFromDb;
 import org.cyberrealm.tech.muvio.dto.MediaGalleryRequestDto;
+import org.cyberrealm.tech.muvio.dto.MediaSearchDto;
+import org.cyberrealm.tech.muvio.dto.MediaSearchFromDb;
+import org.cyberrealm.tech.muvio.dto.MediaSearchRequestDto;
+import org.cyberrealm.tech.muvio.dto.MediaVibePageFromDb;
 import org.cyberrealm.tech.muvio.dto.MediaVibeRequestDto;
 import org.cyberrealm.tech.muvio.dto.PosterDto;
 import org.cyberrealm.tech.muvio.dto.TitleDto;
-import org.cyberrealm.tech.muvio.mapper.GenreMapper;
 import org.cyberrealm.tech.muvio.mapper.MediaMapper;
+import org.cyberrealm.tech.muvio.model.GenreEntity;
 import org.cyberrealm.tech.muvio.model.Media;
+import org.cyberrealm.tech.muvio.model.MediaDisplay;
+import org.cyberrealm.tech.muvio.model.TopLists;
 import org.cyberrealm.tech.muvio.repository.MediaRepository;
+import org.cyberrealm.tech.muvio.service.MediaSamplingService;
 import org.cyberrealm.tech.muvio.service.PaginationUtil;
+import org.cyberrealm.tech.muvio.service.StatisticsService;
+import org.cyberrealm.tech.muvio.service.TopListRankingService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -88,7 +107,11 @@ public class MediaServiceImplTest {
     @Mock
     private PaginationUtil paginationUtil;
     @Mock
-    private GenreMapper genreMapper;
+    private MediaSamplingService mediaSamplingService;
+    @Mock
+    private StatisticsService statisticsService;
+    @Mock
+    private TopListRankingService topListRankingService;
     @InjectMocks
     private MediaServiceImpl mediaService;
 
@@ -102,6 +125,19 @@ public class MediaServiceImplTest {
         assertThat(mediaService.getMediaById(ID_STRING)).isEqualTo(expect);
     }
 
+    @Test
+    @DisplayName("Verify getMediaByIds() method keeps request order and reports missing ids")
+    void getMediaByIds_oneMissingId_returnFoundMediaAndMissingIds() {
+        final MediaDto mediaDto = getMediaDto();
+        when(mediaRepository.findMoviesByIdIn(List.of(STRING_1, ID_STRING)))
+                .thenReturn(List.of(getMediaDtoFromDb()));
+        when(mediaMapper.toMovieDto(any(MediaDtoFromDb.class))).thenReturn(mediaDto);
+        final MediaBatchDto actual = mediaService.getMediaByIds(
+                List.of(STRING_1, ID_STRING, STRING_1));
+        assertThat(actual.media()).isEqualTo(List.of(mediaDto));
+        assertThat(actual.missingIds()).isEqualTo(List.of(STRING_1));
+    }
+
     @Test
     @DisplayName("Verify getAllMediaByVibe() method works")
     void getAllMediaByVibe_validResponse_returnSliceMediaDtoWithPoints() {
@@ -109,15 +145,18 @@ public class MediaServiceImplTest {
                 Set.of(COMEDY), VOTE_AVERAGE_8, TRAILER, POSTER_PATH, DURATION_90_STRING,
                 DIRECTOR_NAME, Set.of(), List.of(), List.of(), YEAR_2020, COUNTRY_NAME, OVERVIEW,
                 TYPE_MOVIE, ONE);
-        when(mediaRepository.getAllMediaByVibes(any(MediaVibeRequestDto.class)))
-                .thenReturn(List.of(getMedia()));
-        when(mediaMapper.toMediaDtoWithPoints(any(Media.class), any()))
+        when(mediaRepository.getAllMediaByVibes(any(MediaVibeRequestDto.class),
+                any(Pageable.class), eq(TEN))).thenReturn(new MediaVibePageFromDb(
+                        List.of(getMediaDtoWithPointsFromDb()),
+                        List.of(getMediaDtoWithPointsFromDb()), 1L));
+        when(mediaMapper.toMediaDtoWithPoints(any(MediaDtoWithPointsFromDb.class)))
                 .thenReturn(mediaDtoWithPoints);
-        when(paginationUtil.paginateListWithOneRandomBefore(any(), anyList())).thenReturn(
-                new PageImpl<>(List.of(mediaDtoWithPoints)));
+        when(paginationUtil.paginateWindowWithOneRandomBefore(any(Pageable.class),
+                eq(List.of(mediaDtoWithPoints)), eq(List.of(mediaDtoWithPoints)), eq(1L)))
+                .thenReturn(new PageImpl<>(List.of(mediaDtoWithPoints)));
         final List<MediaDtoWithPoints> actual = mediaService.getAllMediaByVibe(
                 new MediaVibeRequestDto(VIBE, null, null,
-                null, ZERO, TEN)).getContent();
+                null, null, ZERO, TEN)).getContent();
         assertThat(actual.getFirst()).isEqualTo(mediaDtoWithPoints);
         assertThat(actual.size()).isEqualTo(ONE);
     }
@@ -134,6 +173,25 @@ public class MediaServiceImplTest {
                 .isEqualTo(List.of(mediaBaseDto));
     }
 
+    @Test
+    @DisplayName("Verify search() method returns the page with facet counts")
+    void search_validResponse_returnMediaSearchDto() {
+        final MediaBaseDto mediaBaseDto = getMediaBaseDto();
+        final MediaFacetsFromDb facets = new MediaFacetsFromDb(ONE, Map.of(TYPE_MOVIE, 1L),
+                Map.of(), Map.of(), Map.of(), Map.of(), Map.of());
+        final MediaFacetsDto facetsDto = new MediaFacetsDto(Map.of(TYPE_MOVIE, 1L), Map.of(),
+                Map.of(), Map.of(), Map.of(), Map.of());
+        when(mediaRepository.search(any(MediaSearchRequestDto.class), any()))
+                .thenReturn(new MediaSearchFromDb(getListMediaBaseDtoFromDb(), facets));
+        when(mediaMapper.toMediaBaseDto(any(MediaBaseDtoFromDb.class))).thenReturn(mediaBaseDto);
+        when(mediaMapper.toMediaFacetsDto(facets)).thenReturn(facetsDto);
+        final MediaSearchDto actual = mediaService.search(new MediaSearchRequestDto(TITLE, null,
+                YEAR_2020_STRING, TYPE_MOVIE, null, null), getPageable());
+        assertThat(actual.totalElements()).isEqualTo(ONE);
+        assertThat(actual.facets()).isEqualTo(facetsDto);
+        assertThat(actual.content().size()).isEqualTo(getListMediaBaseDtoFromDb().size());
+    }
+
     @Test
     @DisplayName("Verify getAllLuck() method works")
     void getAllLuck_validResponse_returnSetMediaDto() {
@@ -143,16 +201,47 @@ public class MediaServiceImplTest {
         assertThat(mediaService.getAllLuck(ONE)).isEqualTo(Set.of(mediaDto));
     }
 
+    @Test
+    @DisplayName("Verify getAllLuck() method loads sampled ids when the pool is ready")
+    void getAllLuck_sampledIds_returnSetMediaDto() {
+        final MediaDto mediaDto = getMediaDto();
+        when(mediaSamplingService.sampleIds(ONE)).thenReturn(Optional.of(List.of(ID_STRING)));
+        when(mediaRepository.findMoviesByIdIn(List.of(ID_STRING)))
+                .thenReturn(List.of(getMediaDtoFromDb()));
+        when(mediaMapper.toMovieDto(any(MediaDtoFromDb.class))).thenReturn(mediaDto);
+        assertThat(mediaService.getAllLuck(ONE)).isEqualTo(Set.of(mediaDto));
+    }
+
     @Test
     @DisplayName("Verify findMediaByTopLists() method works")
     void findMediaByTopLists_validResponse_returnSliceMediaDtoWithCast() {
         final MediaDtoWithCast mediaDtoWithCast = getMediaDtoWithCast();
-        when(mediaRepository.findByTopListsContaining(anyString(), any()))
-                .thenReturn(new SliceImpl<>(List.of(getMediaDtoWithCastFromDb())));
-        when(mediaMapper.toMediaDtoWithCast(any(MediaDtoWithCastFromDb.class)))
-                .thenReturn(mediaDtoWithCast);
+        when(topListRankingService.getRanking(TopLists.TOP_100_SUPERHERO_MOVIES))
+                .thenReturn(List.of(mediaDtoWithCast, mediaDtoWithCast));
+        final Slice<MediaDtoWithCast> actual = mediaService.findMediaByTopLists(
+                TopLists.TOP_100_SUPERHERO_MOVIES.name().toLowerCase(), ZERO, ONE);
+        assertThat(actual.getContent()).isEqualTo(List.of(mediaDtoWithCast));
+        assertThat(actual.hasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Verify findMediaByTopLists() method clamps the slice for the largest size")
+    void findMediaByTopLists_maxSize_returnWholeRanking() {
+        final MediaDtoWithCast mediaDtoWithCast = getMediaDtoWithCast();
+        when(topListRankingService.getRanking(TopLists.TOP_100_SUPERHERO_MOVIES))
+                .thenReturn(List.of(mediaDtoWithCast, mediaDtoWithCast));
+        final Slice<MediaDtoWithCast> actual = mediaService.findMediaByTopLists(
+                TopLists.TOP_100_SUPERHERO_MOVIES.name(), ZERO, Integer.MAX_VALUE);
+        assertThat(actual.getContent()).isEqualTo(List.of(mediaDtoWithCast, mediaDtoWithCast));
+        assertThat(actual.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Verify findMediaByTopLists() method returns an empty slice for unknown lists")
+    void findMediaByTopLists_unknownTopList_returnEmptySlice() {
         assertThat(mediaService.findMediaByTopLists(TOP_LIST, ZERO, TEN).getContent())
-                .isEqualTo(List.of(mediaDtoWithCast));
+                .isEqualTo(List.of());
+        verify(topListRankingService, never()).getRanking(any());
     }
 
     @Test
@@ -163,6 +252,14 @@ public class MediaServiceImplTest {
         assertThat(mediaService.getRandomPosters(TWO)).isEqualTo(randomPosterDto);
     }
 
+    @Test
+    @DisplayName("Verify getRandomPosters() method returns sampled posters when the pool is ready")
+    void getRandomPosters_sampledPosters_returnListPosterDto() {
+        final List<PosterDto> randomPosterDto = getRandomPosterDto();
+        when(mediaSamplingService.samplePosters(TWO)).thenReturn(Optional.of(randomPosterDto));
+        assertThat(mediaService.getRandomPosters(TWO)).isEqualTo(randomPosterDto);
+    }
+
     @Test
     @DisplayName("Verify findAllTitles() method works")
     void findAllTitles_validResponse_returnSliceTitleDto() {
@@ -176,9 +273,8 @@ public class MediaServiceImplTest {
     void findByTitle_validResponse_returnMediaDto() {
         final MediaBaseDto mediaBaseDto = getMediaBaseDto();
         when(mediaRepository.findByTitle(TITLE, PAGEABLE))
-                .thenReturn(getSliceMediaDtoFromDb());
-        when(genreMapper.toStringGenres(any())).thenReturn(Set.of(COMEDY));
-        when(mediaMapper.toCorrectType(any())).thenReturn(TYPE_MOVIE);
+                .thenReturn(new SliceImpl<>(List.of(getMediaBaseDtoFromDb())));
+        when(mediaMapper.toMediaBaseDto(any(MediaBaseDtoFromDb.class))).thenReturn(mediaBaseDto);
         assertThat(mediaBaseDto)
                 .isEqualTo(mediaService.findByTitle(TITLE, PAGEABLE).getContent().getFirst());
     }
@@ -187,17 +283,28 @@ public class MediaServiceImplTest {
     @DisplayName("Verify getAll() method works")
     void getAll_validResponse_returnListMediaBaseDto() {
         final List<MediaBaseDto> mediaBaseDto = List.of(getMediaBaseDto());
-        when(mediaRepository.getAll(PAGEABLE)).thenReturn(mediaBaseDto);
-        when(mediaMapper.toDuration(anyInt())).thenReturn(DURATION_90_STRING);
-        when(genreMapper.toStringGenres(any())).thenReturn(Set.of(COMEDY));
+        when(mediaRepository.getAll(PAGEABLE)).thenReturn(List.of(getMediaBaseDtoFromDb()));
+        when(mediaMapper.toMediaBaseDto(any(MediaBaseDtoFromDb.class)))
+                .thenReturn(mediaBaseDto.getFirst());
         assertThat(mediaService.getAll(PAGEABLE)).isEqualTo(mediaBaseDto);
     }
 
     @Test
     @DisplayName("Verify count() method works")
     void count_validResponse_returnLong() {
-        when(mediaRepository.count()).thenReturn(COUNT);
+        when(statisticsService.getStatistics()).thenReturn(getStatistics());
         assertThat(mediaService.count()).isEqualTo(COUNT);
+        verify(mediaRepository, never()).count();
+    }
+
+    @Test
+    @DisplayName("Verify getMainPageInfo() method serves counts from the statistics")
+    void getMainPageInfo_validResponse_returnMainPageInfoDto() {
+        when(statisticsService.getStatistics()).thenReturn(getStatistics());
+        final MainPageInfoDto actual = mediaService.getMainPageInfo();
+        assertThat(actual.mediaCount()).isEqualTo(COUNT);
+        assertThat(actual.actorCount()).isEqualTo(ONE);
+        assertThat(actual.genreCount()).isEqualTo(GenreEntity.values().length);
     }
 
     @Test
@@ -205,7 +312,9 @@ public class MediaServiceImplTest {
     void getRecommendations_validResponse_returnSliceMediaBaseDto() {
         when(mediaRepository.findMoviesByTypeGenreAndYears(
                 any(), any(), anyInt(), any(Pageable.class))
-        ).thenReturn(new PageImpl<>(getListMediaBaseDto()));
+        ).thenReturn(new PageImpl<>(getListMediaBaseDtoFromDb()));
+        when(mediaMapper.toMediaBaseDto(any(MediaBaseDtoFromDb.class)))
+                .thenAnswer(invocation -> toMediaBaseDto(invocation.getArgument(ZERO)));
         when(paginationUtil.paginateList(any(PageRequest.class), anyList()))
                 .thenReturn(new PageImpl<>(Arrays.asList(getListMediaBaseDto().toArray())));
         final Slice<MediaBaseDto> actual = mediaService.getRecommendations(ZERO);
@@ -220,10 +329,10 @@ public class MediaServiceImplTest {
         MediaBaseDto media1 = new MediaBaseDto();
         media1.setId(STRING_1);
         media1.setTitle(TITLE_1);
-        List<MediaBaseDto> shortList = List.of(media1);
         when(mediaRepository.findMoviesByTypeGenreAndYears(
                 any(), any(), anyInt(), any(Pageable.class))
-        ).thenReturn(new PageImpl<>(shortList));
+        ).thenReturn(new PageImpl<>(List.of(createMediaFromDb(STRING_1, TITLE_1))));
+        when(mediaMapper.toMediaBaseDto(any(MediaBaseDtoFromDb.class))).thenReturn(media1);
         when(paginationUtil.paginateList(any(PageRequest.class), anyList()))
                 .thenReturn(new PageImpl<>(List.of(media1)));
         Slice<MediaBaseDto> result = mediaService.getRecommendations(ZERO);
@@ -241,6 +350,20 @@ public class MediaServiceImplTest {
         return list;
     }
 
+    private List<MediaBaseDtoFromDb> getListMediaBaseDtoFromDb() {
+        return List.of(createMediaFromDb(STRING_1, TITLE_1), createMediaFromDb(STRING_2, TITLE_2),
+                createMediaFromDb(STRING_3, TITLE_3), createMediaFromDb(STRING_4, TITLE_4),
+                createMediaFromDb(STRING_5, TITLE_5), createMediaFromDb(STRING_6, TITLE_6));
+    }
+
+    private MediaBaseDtoFromDb createMediaFromDb(String id, String title) {
+        return new MediaBaseDtoFromDb(id, title, null, null, null, null);
+    }
+
+    private MediaBaseDto toMediaBaseDto(MediaBaseDtoFromDb media) {
+        return createMedia(media.id(), media.title());
+    }
+
     private MediaBaseDto createMedia(String id, String title) {
         MediaBaseDto media = new MediaBaseDto();
         media.setId(id);
@@ -252,6 +375,12 @@ public class MediaServiceImplTest {
         return new Media();
     }
 
+    private MediaDtoWithPointsFromDb getMediaDtoWithPointsFromDb() {
+        return new MediaDtoWithPointsFromDb(ID_STRING, TITLE, Set.of(), VOTE_AVERAGE_8, TRAILER,
+                POSTER_PATH, DURATION_90, DIRECTOR_NAME, Set.of(), List.of(), List.of(),
+                YEAR_2020, COUNTRY_NAME, OVERVIEW, null, ONE, null);
+    }
+
     private Slice<TitleDto> getSliceTitleDto() {
         return new SliceImpl<>(List.of(new TitleDto(ID_STRING, TITLE)));
     }
@@ -270,11 +399,6 @@ public class MediaServiceImplTest {
                 VOTE_AVERAGE_8, POSTER_PATH, DURATION_90_STRING, DIRECTOR_NAME, List.of());
     }
 
-    private MediaDtoWithCastFromDb getMediaDtoWithCastFromDb() {
-        return new MediaDtoWithCastFromDb(ID_STRING, TITLE, RELEASE_YEAR_2022, Set.of(COMEDY),
-                VOTE_AVERAGE_8, POSTER_PATH, DURATION_90, DIRECTOR_NAME, List.of());
-    }
-
     private MediaBaseDto getMediaBaseDto() {
         MediaBaseDto mediaBaseDto = new MediaBaseDto();
         mediaBaseDto.setId(ID_STRING);
@@ -291,15 +415,12 @@ public class MediaServiceImplTest {
     private MediaDtoFromDb getMediaDtoFromDb() {
         return new MediaDtoFromDb(ID_STRING, TITLE, Set.of(COMEDY), VOTE_AVERAGE_8,
                 TRAILER, POSTER_PATH, DURATION_90, DIRECTOR_NAME, Set.of(), List.of(), List.of(),
-                YEAR_2020, List.of(), OVERVIEW, TYPE_MOVIE, Set.of());
+                YEAR_2020, List.of(), OVERVIEW, TYPE_MOVIE, Set.of(), null);
     }
 
-    private Slice<MediaBaseDto> getSliceMediaDtoFromDb() {
-        List<MediaBaseDto> mediaList = List.of(
-                new MediaBaseDto(ID_STRING, TITLE, Set.of(COMEDY), VOTE_AVERAGE_8,
-                        POSTER_PATH, DURATION_90_STRING, YEAR_2020, TYPE_MOVIE)
-        );
-        return new SliceImpl<>(mediaList);
+    private MediaBaseDtoFromDb getMediaBaseDtoFromDb() {
+        return new MediaBaseDtoFromDb(ID_STRING, TITLE, VOTE_AVERAGE_8, POSTER_PATH, YEAR_2020,
+                new MediaDisplay(DURATION_90_STRING, POSTER_PATH, TYPE_MOVIE, Set.of(COMEDY)));
     }
 
     private MediaDto getMediaDto() {
@@ -307,4 +428,9 @@ public class MediaServiceImplTest {
                 TRAILER, POSTER_PATH,DURATION_90_STRING, DIRECTOR_NAME, Set.of(), List.of(),
                 List.of(), YEAR_2020, List.of(), OVERVIEW, TYPE_MOVIE);
     }
+
+    private CatalogueStatisticsDto getStatistics() {
+        return new CatalogueStatisticsDto(COUNT, ONE, Map.of(), Map.of(), Map.of(), Map.of(),
+                Map.of(), Map.of());
+    }
 }
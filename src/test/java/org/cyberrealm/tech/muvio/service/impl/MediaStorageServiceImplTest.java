@@ -1,17 +1,23 @@
 package org.cyberrealm.tech.muvio.service.impl;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.cyberrealm.tech.muvio.common.Constants.THREE;
 import static org.cyberrealm.tech.muvio.common.Constants.ZERO;
 import static org.cyberrealm.tech.muvio.util.TestConstants.MEDIA_TITLE;
 import static org.cyberrealm.tech.muvio.util.TestConstants.TEST_SIZE;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import org.cyberrealm.tech.muvio.mapper.MediaMapper;
 import org.cyberrealm.tech.muvio.model.Actor;
 import org.cyberrealm.tech.muvio.model.Media;
+import org.cyberrealm.tech.muvio.model.MediaDisplay;
 import org.cyberrealm.tech.muvio.repository.ActorRepository;
 import org.cyberrealm.tech.muvio.repository.MediaRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -20,14 +26,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 public class MediaStorageServiceImplTest {
     private static final String ACTOR_NAME = "Actor ";
+    private static final int BATCH_SIZE = 500;
     @Mock
     private MediaRepository mediaRepository;
     @Mock
     private ActorRepository actorRepository;
+    @Mock
+    private MediaMapper mediaMapper;
     @InjectMocks
     private MediaStorageServiceImpl mediaStorageService;
 
@@ -60,4 +71,28 @@ public class MediaStorageServiceImplTest {
         verify(actorRepository, times(THREE)).saveAll(anyList());
         verify(mediaRepository, times(THREE)).saveAll(anyList());
     }
+
+    @Test
+    @DisplayName("Verify backfillDisplay() method fills display fields of stored media")
+    void backfillDisplay_mediaWithoutDisplay_shouldSaveDisplay() {
+        final Media media = new Media();
+        final MediaDisplay display = new MediaDisplay();
+        when(mediaRepository.findMediaWithoutDisplay(null, BATCH_SIZE))
+                .thenReturn(List.of(media));
+        when(mediaMapper.toMediaDisplay(media)).thenReturn(display);
+        mediaStorageService.backfillDisplay();
+        assertThat(media.getDisplay()).isSameAs(display);
+        verify(mediaRepository).updateDisplays(List.of(media));
+        verify(mediaRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Verify backfillDisplayOnStartup() method survives an unavailable database")
+    void backfillDisplayOnStartup_mongoUnavailable_shouldNotThrow() {
+        ReflectionTestUtils.setField(mediaStorageService, "warmupEnabled", true);
+        when(mediaRepository.findMediaWithoutDisplay(null, BATCH_SIZE))
+                .thenThrow(new DataAccessResourceFailureException("Mongo is down"));
+        mediaStorageService.backfillDisplayOnStartup();
+        verify(mediaRepository, never()).updateDisplays(anyList());
+    }
 }
@@ -40,14 +40,11 @@ import static org.cyberrealm.tech.muvio.util.TestConstants.ZERO_OF_RECORDS;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.anyMap;
-import static org.mockito.Mockito.anySet;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -55,8 +52,10 @@ import java.util.Set;
 import org.cyberrealm.tech.muvio.model.Actor;
 import org.cyberrealm.tech.muvio.model.Media;
 import org.cyberrealm.tech.muvio.model.Type;
+import org.cyberrealm.tech.muvio.service.ClassificationService;
 import org.cyberrealm.tech.muvio.service.MediaFactory;
 import org.cyberrealm.tech.muvio.service.TmDbService;
+import org.cyberrealm.tech.muvio.util.AwardIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -71,20 +70,26 @@ class MediaSyncServiceImplTest {
     private TmDbService tmdbService;
     @Mock
     private MediaFactory mediaFactory;
+    @Mock
+    private ClassificationService classificationService;
     @InjectMocks
     private MediaSyncServiceImpl mediaSyncService;
 
     private Map<String, Media> mediaStorage;
     private Map<Integer, Actor> actorStorage;
-    private Set<String> imdbTop250;
-    private Set<String> winningMedia;
+    private Set<String> imdbTop250Titles;
+    private Set<String> winningTitles;
+    private AwardIndex imdbTop250;
+    private AwardIndex winningMedia;
 
     @BeforeEach
     void setUp() {
         mediaStorage = new HashMap<>();
         actorStorage = new HashMap<>();
-        imdbTop250 = new HashSet<>(Arrays.asList(FIRST_MEDIA_ID, SECOND_MEDIA_ID));
-        winningMedia = new HashSet<>(List.of(THIRD_MEDIA_ID));
+        imdbTop250Titles = Set.of(FIRST_MEDIA_ID, SECOND_MEDIA_ID);
+        winningTitles = Set.of(THIRD_MEDIA_ID);
+        imdbTop250 = AwardIndex.of(imdbTop250Titles);
+        winningMedia = AwardIndex.of(winningTitles);
     }
 
     @Test
@@ -93,7 +98,7 @@ class MediaSyncServiceImplTest {
         // Given
         when(tmdbService.fetchPopularMovies(anyString(), anyInt(), anyString()))
                 .thenReturn(Set.of(POPULAR_MOVIE_ID_ONE, POPULAR_MOVIE_ID_TWO));
-        when(mediaFactory.createMovie(anyString(), anyInt(), anySet(), anySet(), anyMap()))
+        when(mediaFactory.createMovie(anyString(), anyInt(), anyMap()))
                 .thenAnswer(invocation -> {
                     int id = invocation.getArgument(POPULAR_MOVIE_ID_ONE);
                     return getMedia(String.valueOf(id), MOVIE_PREFIX, Type.MOVIE);
@@ -108,7 +113,7 @@ class MediaSyncServiceImplTest {
         assertThat(mediaStorage.containsKey(MOVIE_KEY_ONE)).isTrue();
         assertThat(mediaStorage.containsKey(MOVIE_KEY_TWO)).isTrue();
         verify(mediaFactory, times(EXPECTED_SIZE_TWO))
-                .createMovie(anyString(), anyInt(), anySet(), anySet(), anyMap());
+                .createMovie(anyString(), anyInt(), anyMap());
     }
 
     @Test
@@ -117,7 +122,7 @@ class MediaSyncServiceImplTest {
         // Given
         when(tmdbService.fetchPopularTvSerials(anyString(), anyInt()))
                 .thenReturn(Set.of(POPULAR_TV_ID_ONE, POPULAR_TV_ID_TWO));
-        when(mediaFactory.createTvSerial(anyString(), anyInt(), anySet(), anySet(), anyMap()))
+        when(mediaFactory.createTvSerial(anyString(), anyInt(), anyMap()))
                 .thenAnswer(invocation -> {
                     int id = invocation.getArgument(POPULAR_MOVIE_ID_ONE);
                     return getMedia(TV_PREFIX + id, TV_SHOW_TITLE_PREFIX, Type.TV_SHOW);
@@ -132,7 +137,7 @@ class MediaSyncServiceImplTest {
         assertThat(mediaStorage.containsKey(TV_MOVIE_KEY_ONE)).isTrue();
         assertThat(mediaStorage.containsKey(TV_MOVIE_KEY_TWO)).isTrue();
         verify(mediaFactory, times(EXPECTED_SIZE_TWO))
-                .createTvSerial(anyString(), anyInt(), anySet(), anySet(), anyMap());
+                .createTvSerial(anyString(), anyInt(), anyMap());
     }
 
     @Test
@@ -141,7 +146,7 @@ class MediaSyncServiceImplTest {
         // Given
         when(tmdbService.getFilteredMovies(anyInt(), anyInt()))
                 .thenReturn(Set.of(FILTERED_MOVIE_ID_ONE, FILTERED_MOVIE_ID_TWO));
-        when(mediaFactory.createMovie(anyString(), anyInt(), anySet(), anySet(), anyMap()))
+        when(mediaFactory.createMovie(anyString(), anyInt(), anyMap()))
                 .thenAnswer(invocation -> {
                     int id = invocation.getArgument(POPULAR_MOVIE_ID_ONE);
                     return getMedia(String.valueOf(id), FILTERED_MOVIE_PREFIX, Type.MOVIE);
@@ -156,7 +161,7 @@ class MediaSyncServiceImplTest {
         assertThat(mediaStorage.containsKey(FILTERED_MOVIE_KEY_ONE)).isTrue();
         assertThat(mediaStorage.containsKey(FILTERED_MOVIE_KEY_TWO)).isTrue();
         verify(mediaFactory, times(EXPECTED_SIZE_TWO))
-                .createMovie(anyString(), anyInt(), anySet(), anySet(), anyMap());
+                .createMovie(anyString(), anyInt(), anyMap());
     }
 
     @Test
@@ -165,13 +170,17 @@ class MediaSyncServiceImplTest {
         // Given
         when(tmdbService.searchMovies(anyString(), anyString(), anyString()))
                 .thenReturn(Optional.of(SEARCH_MOVIE_ID));
-        when(mediaFactory.createMovie(anyString(), anyInt(), anySet(), anySet(), anyMap()))
+        when(mediaFactory.createMovie(anyString(), anyInt(), anyMap()))
                 .thenAnswer(invocation -> {
                     int id = invocation.getArgument(POPULAR_MOVIE_ID_ONE);
                     return getMedia(String.valueOf(id), TITLE_BASED_MOVIE_PREFIX, Type.MOVIE);
                 });
 
         // When
+        imdbTop250 = mediaSyncService.indexAwards(EN_LANGUAGE, US_REGION, imdbTop250Titles,
+                IS_MOVIES);
+        winningMedia = mediaSyncService.indexAwards(EN_LANGUAGE, US_REGION, winningTitles,
+                IS_MOVIES);
         mediaSyncService.importByFindingTitles(EN_LANGUAGE, US_REGION, CURRENT_YEAR, actorStorage,
                 mediaStorage, imdbTop250, winningMedia, IS_MOVIES);
 
@@ -181,15 +190,15 @@ class MediaSyncServiceImplTest {
         verify(tmdbService, times(EXPECTED_SIZE_THREE))
                 .searchMovies(anyString(), anyString(), anyString());
         verify(mediaFactory, times(EXPECTED_SIZE_ONE))
-                .createMovie(anyString(), anyInt(), anySet(), anySet(), anyMap());
+                .createMovie(anyString(), anyInt(), anyMap());
     }
 
     @Test
     @DisplayName("Import popular movies with empty sets")
     void importMedia_WhenCalledWithEmptySets_ShouldNotImportAnyMedia() {
         // Given
-        imdbTop250.clear();
-        winningMedia.clear();
+        imdbTop250 = AwardIndex.of(Set.of());
+        winningMedia = AwardIndex.of(Set.of());
 
         // When
         mediaSyncService.importMedia(EN_LANGUAGE, US_REGION, CURRENT_YEAR, imdbTop250,
@@ -212,7 +221,7 @@ class MediaSyncServiceImplTest {
         // Then
         assertThat(mediaStorage).isEmpty();
         verify(mediaFactory, times(ZERO_OF_RECORDS))
-                .createMovie(anyString(), anyInt(), anySet(), anySet(), anyMap());
+                .createMovie(anyString(), anyInt(), anyMap());
     }
 
     @Test
@@ -223,6 +232,10 @@ class MediaSyncServiceImplTest {
                 .thenReturn(Optional.empty());
 
         // When
+        imdbTop250 = mediaSyncService.indexAwards(EN_LANGUAGE, US_REGION, imdbTop250Titles,
+                IS_MOVIES);
+        winningMedia = mediaSyncService.indexAwards(EN_LANGUAGE, US_REGION, winningTitles,
+                IS_MOVIES);
         mediaSyncService.importByFindingTitles(EN_LANGUAGE, US_REGION, CURRENT_YEAR, actorStorage,
                 mediaStorage, imdbTop250, winningMedia, IS_MOVIES);
 
@@ -231,7 +244,7 @@ class MediaSyncServiceImplTest {
         verify(tmdbService, times(EXPECTED_SIZE_THREE))
                 .searchMovies(anyString(), anyString(), anyString());
         verify(mediaFactory, times(ZERO_OF_RECORDS))
-                .createMovie(anyString(), anyInt(), anySet(), anySet(), anyMap());
+                .createMovie(anyString(), anyInt(), anyMap());
     }
 
     @Test
@@ -256,6 +269,6 @@ class MediaSyncServiceImplTest {
                 null, RELEASE_YEAR_2022, List.of(), null,
                 null, null, FIRST_POPULAR_MEDIA_DURATION, EMPTY,
                 type, Set.of(), Set.of(), List.of(),
-                List.of(), Set.of(), Set.of(), Set.of());
+                List.of(), Set.of(), null, Set.of(), Set.of(), null, null);
     }
 }
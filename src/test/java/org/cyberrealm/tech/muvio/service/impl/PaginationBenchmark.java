@@ -0,0 +1,101 @@
+package org.cyberrealm.tech.muvio.service.impl;
+
+import static org.cyberrealm.tech.muvio.common.Constants.MINUS_ONE;
+import static org.cyberrealm.tech.muvio.common.Constants.ONE;
+import static org.cyberrealm.tech.muvio.common.Constants.RATING;
+import static org.cyberrealm.tech.muvio.common.Constants.TEN;
+import static org.cyberrealm.tech.muvio.common.Constants.TITLE;
+import static org.cyberrealm.tech.muvio.common.Constants.ZERO;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.cyberrealm.tech.muvio.dto.MediaBaseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaginationBenchmark {
+    private static final long SEED = 42L;
+    private static final Sort SORT = Sort.by(RATING).descending().and(Sort.by(TITLE));
+    private static final Pageable FIRST_PAGE = PageRequest.of(ZERO, TEN, SORT);
+    @Param({"1000", "5000", "20000"})
+    protected int size;
+    private final PaginationUtilImpl paginationUtil = new PaginationUtilImpl();
+    private List<MediaBaseDto> media;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(SEED);
+        media = new ArrayList<>(size);
+        for (int i = ZERO; i < size; i++) {
+            final MediaBaseDto mediaBaseDto = new MediaBaseDto();
+            mediaBaseDto.setId(String.valueOf(i));
+            mediaBaseDto.setTitle(TITLE + random.nextInt(size));
+            mediaBaseDto.setRating((double) random.nextInt(TEN * TEN) / TEN);
+            media.add(mediaBaseDto);
+        }
+    }
+
+    @Benchmark
+    public List<MediaBaseDto> fullSort() {
+        final List<MediaBaseDto> sortedList = new ArrayList<>(media);
+        sortedList.sort(reflectionComparator(SORT));
+        return sortedList.subList(ZERO, TEN);
+    }
+
+    @Benchmark
+    public List<MediaBaseDto> topKSelection() {
+        return paginationUtil.paginateList(FIRST_PAGE, media).getContent();
+    }
+
+    private static <T> Comparator<T> reflectionComparator(Sort sort) {
+        return (o1, o2) -> {
+            for (Sort.Order order : sort) {
+                try {
+                    final Field field = o1.getClass().getDeclaredField(order.getProperty());
+                    field.setAccessible(true);
+                    final Object value1 = field.get(o1);
+                    final Object value2 = field.get(o2);
+                    if (value1 == null && value2 == null) {
+                        return ZERO;
+                    } else if (value1 == null) {
+                        return ONE;
+                    } else if (value2 == null) {
+                        return MINUS_ONE;
+                    }
+                    if (value1 instanceof Comparable<?> && value2 instanceof Comparable<?>) {
+                        @SuppressWarnings("unchecked")
+                        final int comparison = ((Comparable<Object>) value1).compareTo(value2);
+                        if (comparison != ZERO) {
+                            return order.isAscending() ? comparison : -comparison;
+                        }
+                    }
+                } catch (NoSuchFieldException | IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return ZERO;
+        };
+    }
+}
@@ -2,6 +2,7 @@ package org.cyberrealm.tech.muvio.service.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.cyberrealm.tech.muvio.common.Constants.FOUR;
+import static org.cyberrealm.tech.muvio.common.Constants.ONE;
 import static org.cyberrealm.tech.muvio.common.Constants.SIX;
 import static org.cyberrealm.tech.muvio.common.Constants.THREE;
 import static org.cyberrealm.tech.muvio.common.Constants.TITLE;
@@ -86,6 +87,31 @@ class PaginationUtilImplTest {
         assertEquals(expect, actual);
     }
 
+    @Test
+    @DisplayName("Should order only the requested prefix and keep ties in list order")
+    void paginateList_secondPageDescending_returnsSameItemsAsFullSort() {
+        final List<MediaBaseDto> mediaBaseDtoList = List.of(createMediaBaseDto(STRING_1, TITLE_2),
+                createMediaBaseDto(STRING_2, TITLE_5), createMediaBaseDto(STRING_3, TITLE_2),
+                createMediaBaseDto(STRING_4, TITLE_6), createMediaBaseDto(STRING_5, null),
+                createMediaBaseDto(STRING_6, TITLE_1));
+        final Pageable pageable = PageRequest.of(ONE, TWO, Sort.by(TITLE).descending());
+        final Page<MediaBaseDto> page = paginationUtil.paginateList(pageable, mediaBaseDtoList);
+        assertEquals(List.of(STRING_1, STRING_3), page.getContent().stream()
+                .map(MediaBaseDto::getId).toList());
+        assertEquals(SIX, page.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Should sort lists that mix unrelated element types")
+    void paginateList_mixedElementTypes_returnsSortedPage() {
+        final List<Object> items = List.of(new MovieItem(TITLE_3), new ShowItem(TITLE_1),
+                new MovieItem(TITLE_2));
+        final Pageable pageable = PageRequest.of(ZERO, THREE, Sort.by(TITLE).ascending());
+        final Page<Object> page = paginationUtil.paginateList(pageable, items);
+        assertEquals(List.of(items.get(ONE), items.get(TWO), items.getFirst()),
+                page.getContent());
+    }
+
     @Test
     @DisplayName("Should throw exception for non-existing field")
     void paginateList_nonExistingField_throwsException() {
@@ -97,14 +123,40 @@ class PaginationUtilImplTest {
     }
 
     @Test
-    @DisplayName("Should return paged list with sorting and one random item on the first place")
-    void paginateListWithOneRandomBefore_validPageable_returnsCorrectPage() {
-        final Pageable pageable = PageRequest.of(ZERO, SIX, Sort.by(ID_STRING).ascending());
+    @DisplayName("Should return the window with one random top item on the first place")
+    void paginateWindowWithOneRandomBefore_firstPage_returnsCorrectPage() {
+        final Pageable pageable = PageRequest.of(ZERO, THREE);
         final List<MediaBaseDto> mediaBaseDtoList = getMediaBaseDtoList();
-        final Page<MediaBaseDto> page = paginationUtil.paginateListWithOneRandomBefore(
-                pageable, mediaBaseDtoList);
-        assertEquals(mediaBaseDtoList.size(), page.getContent().size());
+        final Page<MediaBaseDto> page = paginationUtil.paginateWindowWithOneRandomBefore(
+                pageable, mediaBaseDtoList, mediaBaseDtoList.subList(ZERO, THREE), SIX);
+        assertEquals(THREE, page.getContent().size());
+        assertEquals(SIX, page.getTotalElements());
         assertThat(mediaBaseDtoList).containsAll(page.getContent());
+        assertThat(page.getContent()).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Should extend the top items with the window when the page overlaps them")
+    void paginateWindowWithOneRandomBefore_overlappingWindow_returnsCorrectPage() {
+        final Pageable pageable = PageRequest.of(ONE, TWO);
+        final List<MediaBaseDto> mediaBaseDtoList = getMediaBaseDtoList();
+        final Page<MediaBaseDto> page = paginationUtil.paginateWindowWithOneRandomBefore(
+                pageable, mediaBaseDtoList.subList(ZERO, THREE),
+                mediaBaseDtoList.subList(TWO, FOUR), SIX);
+        assertEquals(TWO, page.getContent().size());
+        assertThat(mediaBaseDtoList.subList(ZERO, FOUR)).containsAll(page.getContent());
+        assertThat(page.getContent()).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Should return the window unchanged for pages past the top items")
+    void paginateWindowWithOneRandomBefore_deepPage_returnsWindow() {
+        final Pageable pageable = PageRequest.of(TWO, TWO);
+        final List<MediaBaseDto> window = getMediaBaseDtoList().subList(FOUR, SIX);
+        final Page<MediaBaseDto> page = paginationUtil.paginateWindowWithOneRandomBefore(
+                pageable, List.of(), window, SIX);
+        assertEquals(window, page.getContent());
+        assertEquals(pageable, page.getPageable());
     }
 
     private MediaBaseDto createMediaBaseDto(String id, String title) {
@@ -120,4 +172,10 @@ class PaginationUtilImplTest {
                 createMediaBaseDto(STRING_4, TITLE_4), createMediaBaseDto(STRING_5, TITLE_5),
                 createMediaBaseDto(STRING_6, TITLE_6));
     }
+
+    private record MovieItem(String title) {
+    }
+
+    private record ShowItem(String title) {
+    }
 }
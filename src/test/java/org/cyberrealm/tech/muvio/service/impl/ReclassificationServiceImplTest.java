@@ -0,0 +1,118 @@
+package org.cyberrealm.tech.muvio.service.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import org.cyberrealm.tech.muvio.config.MediaWriteLock;
+import org.cyberrealm.tech.muvio.model.AwardList;
+import org.cyberrealm.tech.muvio.model.Media;
+import org.cyberrealm.tech.muvio.model.Type;
+import org.cyberrealm.tech.muvio.repository.MediaRepository;
+import org.cyberrealm.tech.muvio.service.AwardResolutionService;
+import org.cyberrealm.tech.muvio.service.CatalogueService;
+import org.cyberrealm.tech.muvio.service.ClassificationService;
+import org.cyberrealm.tech.muvio.util.AwardIndex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class ReclassificationServiceImplTest {
+    private static final String MOVIE_ID = "1";
+    private static final String TV_SHOW_ID = "tv2";
+    private static final Set<String> IMDB_TOP_MOVIES = Set.of("Movie");
+    private static final Set<String> OSCAR_WINNERS = Set.of("Oscar");
+    private static final Set<String> IMDB_TOP_TV_SHOWS = Set.of("Show");
+    private static final Set<String> EMMY_WINNERS = Set.of("Emmy");
+    @Mock
+    private MediaRepository mediaRepository;
+    @Mock
+    private ClassificationService classificationService;
+    @Mock
+    private CatalogueService catalogueService;
+    @Mock
+    private AwardResolutionService awardResolutionService;
+    @Spy
+    private MediaWriteLock mediaWriteLock = new MediaWriteLock();
+    @InjectMocks
+    private ReclassificationServiceImpl reclassificationService;
+
+    @Test
+    @DisplayName("Verify reclassify() method classifies stored inputs by type and saves them")
+    void reclassify_storedInputs_updateClassificationsAndRefreshCatalogue() {
+        final Media movie = getMedia(MOVIE_ID, Type.MOVIE);
+        final Media tvShow = getMedia(TV_SHOW_ID, Type.TV_SHOW);
+        final List<Media> batch = List.of(movie, tvShow);
+        when(mediaRepository.findClassificationInputs(eq(null), anyInt())).thenReturn(batch);
+        when(awardResolutionService.getAwardIndex(AwardList.IMDB_TOP_250_MOVIES))
+                .thenReturn(AwardIndex.of(IMDB_TOP_MOVIES));
+        when(awardResolutionService.getAwardIndex(AwardList.OSCAR_WINNING_MOVIES))
+                .thenReturn(AwardIndex.of(OSCAR_WINNERS));
+        when(awardResolutionService.getAwardIndex(AwardList.IMDB_TOP_250_TV_SHOWS))
+                .thenReturn(AwardIndex.of(IMDB_TOP_TV_SHOWS));
+        when(awardResolutionService.getAwardIndex(AwardList.EMMY_WINNING_TV_SHOWS))
+                .thenReturn(AwardIndex.of(EMMY_WINNERS));
+        reclassificationService.reclassify();
+        verify(classificationService).classify(eq(List.of(movie)), indexing("Movie"),
+                indexing("Oscar"));
+        verify(classificationService).classify(eq(List.of(tvShow)), indexing("Show"),
+                indexing("Emmy"));
+        verify(mediaRepository).updateClassifications(batch);
+        verify(catalogueService).refresh();
+    }
+
+    @Test
+    @DisplayName("Verify reclassify() method refreshes the catalogue when nothing is stored")
+    void reclassify_noStoredInputs_refreshCatalogue() {
+        when(mediaRepository.findClassificationInputs(any(), anyInt())).thenReturn(List.of());
+        when(awardResolutionService.getAwardIndex(any())).thenReturn(AwardIndex.of(Set.of()));
+        reclassificationService.reclassify();
+        verify(mediaRepository, never()).updateClassifications(any());
+        verify(catalogueService).refresh();
+    }
+
+    @Test
+    @DisplayName("Verify reclassify() method skips while a media synchronization holds the lock")
+    void reclassify_syncRunning_skipReclassification() throws InterruptedException {
+        final CountDownLatch locked = new CountDownLatch(1);
+        final CountDownLatch reclassified = new CountDownLatch(1);
+        final Thread sync = new Thread(() -> mediaWriteLock.runExclusively(() -> {
+            locked.countDown();
+            try {
+                reclassified.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        sync.start();
+        locked.await();
+        reclassificationService.reclassify();
+        reclassified.countDown();
+        sync.join();
+        verifyNoInteractions(mediaRepository, classificationService, catalogueService);
+    }
+
+    private AwardIndex indexing(String title) {
+        return argThat(index -> index.contains(null, title, 0));
+    }
+
+    private Media getMedia(String id, Type type) {
+        final Media media = new Media();
+        media.setId(id);
+        media.setType(type);
+        return media;
+    }
+}
@@ -0,0 +1,98 @@
+package org.cyberrealm.tech.muvio.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import org.cyberrealm.tech.muvio.dto.CatalogueStatisticsDto;
+import org.cyberrealm.tech.muvio.dto.MediaFacetsFromDb;
+import org.cyberrealm.tech.muvio.mapper.StatisticsMapper;
+import org.cyberrealm.tech.muvio.model.CatalogueStatistics;
+import org.cyberrealm.tech.muvio.repository.ActorRepository;
+import org.cyberrealm.tech.muvio.repository.CatalogueStatisticsRepository;
+import org.cyberrealm.tech.muvio.repository.MediaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class StatisticsServiceImplTest {
+    private static final String STATISTICS_ID = "catalogue";
+    private static final long MEDIA_COUNT = 12L;
+    private static final long ACTOR_COUNT = 40L;
+    private static final Map<String, Long> TYPES = Map.of("MOVIE", 8L, "TV_SHOW", 4L);
+    @Mock
+    private MediaRepository mediaRepository;
+    @Mock
+    private ActorRepository actorRepository;
+    @Mock
+    private CatalogueStatisticsRepository statisticsRepository;
+    @Mock
+    private StatisticsMapper statisticsMapper;
+    @InjectMocks
+    private StatisticsServiceImpl statisticsService;
+
+    @Test
+    @DisplayName("Verify getStatistics() method loads the stored statistics only once")
+    void getStatistics_storedStatistics_returnStatisticsDto() {
+        final CatalogueStatistics statistics = getStatistics();
+        when(statisticsRepository.findById(STATISTICS_ID)).thenReturn(Optional.of(statistics));
+        when(statisticsMapper.toDto(statistics)).thenReturn(getStatisticsDto());
+        assertThat(statisticsService.getStatistics().mediaCount()).isEqualTo(MEDIA_COUNT);
+        assertThat(statisticsService.getStatistics().types()).isEqualTo(TYPES);
+        verify(statisticsRepository, times(1)).findById(STATISTICS_ID);
+        verify(mediaRepository, never()).countFacets();
+    }
+
+    @Test
+    @DisplayName("Verify getStatistics() method builds the statistics when none are stored")
+    void getStatistics_noStoredStatistics_buildStatistics() {
+        final CatalogueStatistics statistics = getStatistics();
+        when(statisticsRepository.findById(STATISTICS_ID)).thenReturn(Optional.empty());
+        mockRebuild(statistics);
+        assertThat(statisticsService.getStatistics().actorCount()).isEqualTo(ACTOR_COUNT);
+        verify(statisticsRepository).save(statistics);
+    }
+
+    @Test
+    @DisplayName("Verify refresh() method replaces the statistics served from memory")
+    void refresh_newFacets_serveNewStatistics() {
+        final CatalogueStatistics statistics = getStatistics();
+        mockRebuild(statistics);
+        statisticsService.refresh();
+        assertThat(statisticsService.getStatistics().mediaCount()).isEqualTo(MEDIA_COUNT);
+        verify(statisticsRepository, never()).findById(any());
+    }
+
+    private void mockRebuild(CatalogueStatistics statistics) {
+        final MediaFacetsFromDb facets = new MediaFacetsFromDb(MEDIA_COUNT, TYPES, Map.of(),
+                Map.of(), Map.of(), Map.of(), Map.of());
+        when(mediaRepository.countFacets()).thenReturn(facets);
+        when(actorRepository.count()).thenReturn(ACTOR_COUNT);
+        when(statisticsMapper.toEntity(eq(STATISTICS_ID), eq(facets), anyLong()))
+                .thenReturn(statistics);
+        when(statisticsRepository.save(statistics)).thenReturn(statistics);
+        when(statisticsMapper.toDto(statistics)).thenReturn(getStatisticsDto());
+    }
+
+    private CatalogueStatistics getStatistics() {
+        return new CatalogueStatistics(STATISTICS_ID, MEDIA_COUNT, ACTOR_COUNT, TYPES, Map.of(),
+                Map.of(), Map.of(), Map.of(), Map.of(), Instant.now());
+    }
+
+    private CatalogueStatisticsDto getStatisticsDto() {
+        return new CatalogueStatisticsDto(MEDIA_COUNT, ACTOR_COUNT, TYPES, Map.of(), Map.of(),
+                Map.of(), Map.of(), Map.of());
+    }
+}
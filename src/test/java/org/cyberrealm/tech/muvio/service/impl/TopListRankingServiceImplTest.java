@@ -0,0 +1,129 @@
+package org.cyberrealm.tech.muvio.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.cyberrealm.tech.muvio.config.TopListRulesProperties;
+import org.cyberrealm.tech.muvio.dto.MediaDtoWithCast;
+import org.cyberrealm.tech.muvio.dto.MediaDtoWithCastFromDb;
+import org.cyberrealm.tech.muvio.dto.TopListCandidateFromDb;
+import org.cyberrealm.tech.muvio.mapper.MediaMapper;
+import org.cyberrealm.tech.muvio.model.RankedMedia;
+import org.cyberrealm.tech.muvio.model.TopListRanking;
+import org.cyberrealm.tech.muvio.model.TopLists;
+import org.cyberrealm.tech.muvio.repository.MediaRepository;
+import org.cyberrealm.tech.muvio.repository.TopListRankingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class TopListRankingServiceImplTest {
+    private static final TopLists TOP_LIST = TopLists.TOP_RATED_IMDB_MOVIES_OF_All_TIME;
+    private static final String POPULAR_ID = "popular";
+    private static final String NICHE_ID = "niche";
+    private static final String AVERAGE_ID = "average";
+    private static final int SIZE = 2;
+    @Mock
+    private MediaRepository mediaRepository;
+    @Mock
+    private TopListRankingRepository topListRankingRepository;
+    @Mock
+    private MediaMapper mediaMapper;
+    private TopListRankingServiceImpl topListRankingService;
+
+    @BeforeEach
+    void setUp() {
+        final TopListRulesProperties properties = new TopListRulesProperties();
+        properties.setSize(SIZE);
+        topListRankingService = new TopListRankingServiceImpl(mediaRepository,
+                topListRankingRepository, mediaMapper, properties);
+    }
+
+    @Test
+    @DisplayName("Verify refresh() method ranks by weighted rating and caps every list")
+    @SuppressWarnings("unchecked")
+    void refresh_candidates_saveCappedRankings() {
+        when(mediaRepository.findTopListCandidates(anyString())).thenReturn(List.of());
+        when(mediaRepository.findTopListCandidates(TOP_LIST.name())).thenReturn(List.of(
+                new TopListCandidateFromDb(NICHE_ID, 9.8, 10),
+                new TopListCandidateFromDb(POPULAR_ID, 8.9, 500_000),
+                new TopListCandidateFromDb(AVERAGE_ID, 7.0, 200_000)));
+        when(mediaRepository.findWithCastByIdIn(anyCollection())).thenReturn(List.of());
+        topListRankingService.refresh();
+        final ArgumentCaptor<List<TopListRanking>> captor = ArgumentCaptor.forClass(List.class);
+        verify(topListRankingRepository).deleteAll();
+        verify(topListRankingRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(TopLists.values().length);
+        final List<RankedMedia> ranked = captor.getValue().stream()
+                .filter(ranking -> TOP_LIST.name().equals(ranking.getId()))
+                .findFirst()
+                .orElseThrow()
+                .getMedia();
+        assertThat(ranked).extracting(RankedMedia::getMediaId)
+                .containsExactly(POPULAR_ID, NICHE_ID);
+        assertThat(ranked).extracting(RankedMedia::getRank).containsExactly(1, 2);
+        assertThat(ranked.getFirst().getScore()).isGreaterThan(ranked.get(1).getScore());
+    }
+
+    @Test
+    @DisplayName("Verify refresh() method ranks candidates without a vote count by rating")
+    @SuppressWarnings("unchecked")
+    void refresh_candidatesWithoutVoteCount_rankByRating() {
+        when(mediaRepository.findTopListCandidates(anyString())).thenReturn(List.of());
+        when(mediaRepository.findTopListCandidates(TOP_LIST.name())).thenReturn(List.of(
+                new TopListCandidateFromDb(AVERAGE_ID, 7.0, 200_000),
+                new TopListCandidateFromDb(NICHE_ID, 9.1, null)));
+        when(mediaRepository.findWithCastByIdIn(anyCollection())).thenReturn(List.of());
+        topListRankingService.refresh();
+        final ArgumentCaptor<List<TopListRanking>> captor = ArgumentCaptor.forClass(List.class);
+        verify(topListRankingRepository).saveAll(captor.capture());
+        final List<RankedMedia> ranked = captor.getValue().stream()
+                .filter(ranking -> TOP_LIST.name().equals(ranking.getId()))
+                .findFirst()
+                .orElseThrow()
+                .getMedia();
+        assertThat(ranked).extracting(RankedMedia::getMediaId)
+                .containsExactly(NICHE_ID, AVERAGE_ID);
+        assertThat(ranked.getFirst().getScore()).isEqualTo(9.1);
+    }
+
+    @Test
+    @DisplayName("Verify getRanking() method loads stored rankings once and serves them")
+    void getRanking_storedRankings_returnRankedMediaFromMemory() {
+        final MediaDtoWithCastFromDb popularFromDb = new MediaDtoWithCastFromDb(POPULAR_ID,
+                POPULAR_ID, null, null, null, null, null, null, List.of(), null);
+        final MediaDtoWithCastFromDb nicheFromDb = new MediaDtoWithCastFromDb(NICHE_ID,
+                NICHE_ID, null, null, null, null, null, null, List.of(), null);
+        final MediaDtoWithCast popular = new MediaDtoWithCast(POPULAR_ID, POPULAR_ID, null,
+                null, null, null, null, null, List.of());
+        final MediaDtoWithCast niche = new MediaDtoWithCast(NICHE_ID, NICHE_ID, null, null,
+                null, null, null, null, List.of());
+        final List<RankedMedia> ranked = List.of(new RankedMedia(NICHE_ID, 2, 8.0),
+                new RankedMedia(POPULAR_ID, 1, 8.5));
+        when(topListRankingRepository.findAll())
+                .thenReturn(List.of(new TopListRanking(TOP_LIST.name(), ranked, null)));
+        when(mediaRepository.findWithCastByIdIn(anyCollection()))
+                .thenReturn(List.of(nicheFromDb, popularFromDb));
+        when(mediaMapper.toMediaDtoWithCast(popularFromDb)).thenReturn(popular);
+        when(mediaMapper.toMediaDtoWithCast(nicheFromDb)).thenReturn(niche);
+        assertThat(topListRankingService.getRanking(TOP_LIST)).containsExactly(popular, niche);
+        assertThat(topListRankingService.getRanking(TopLists.TOP_100_SUPERHERO_MOVIES))
+                .isEmpty();
+        verify(topListRankingRepository, times(1)).findAll();
+        verify(topListRankingRepository, never()).saveAll(anyList());
+        verify(mediaRepository, never()).findTopListCandidates(any());
+    }
+}
@@ -2,62 +2,83 @@ package org.cyberrealm.tech.muvio.service.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.cyberrealm.tech.muvio.common.Constants.TWO;
+import static org.cyberrealm.tech.muvio.common.Constants.ZERO;
 import static org.cyberrealm.tech.muvio.util.TestConstants.MEDIA_1;
 
-import info.movito.themoviedbapi.model.keywords.Keyword;
 import java.time.Year;
-import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Set;
+import org.cyberrealm.tech.muvio.config.TopListRulesProperties;
 import org.cyberrealm.tech.muvio.model.TopLists;
+import org.cyberrealm.tech.muvio.util.AwardIndex;
+import org.cyberrealm.tech.muvio.util.KeywordDictionary;
 import org.junit.jupiter.api.BeforeAll;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 public class TopListServiceImplTest {
-    private static final List<Keyword> KEYWORDS = new ArrayList<>();
-    private static final Keyword SUPERHERO = new Keyword();
     private static final double RATING_9 = 9;
     private static final double POPULARITY = 5;
     private static final int VOTE_COUNT = 2000;
-    private static final Set<String> WINNING_MEDIA = new HashSet<>();
+    private static final String ID = "42";
+    private static final AwardIndex WINNING_MEDIA = AwardIndex.of(Set.of(MEDIA_1));
+    private static final AwardIndex NO_AWARDS = AwardIndex.of(Set.of());
     private static final long REVENUE = 90_000_000;
     private static final int BUDGET = 30_000_000;
-    private static final TopListServiceImpl topListService = new TopListServiceImpl();
     private static int releaseYear;
+    private final KeywordDictionary keywordDictionary = new KeywordDictionary();
+    private final TopListServiceImpl topListService = new TopListServiceImpl(
+            new TopListRulesProperties(), keywordDictionary);
+    private final BitSet keywords = keywordDictionary.toIdSet(List.of("superhero"));
 
     @BeforeAll
     static void beforeAll() {
         releaseYear = Year.now().getValue() - TWO;
-        SUPERHERO.setName("superhero");
-        KEYWORDS.add(SUPERHERO);
-    }
-
-    @BeforeEach
-    void setUp() {
-        WINNING_MEDIA.add(MEDIA_1);
     }
 
     @Test
     @DisplayName("Verify putTopLists() method works")
     public void putTopLists_ValidResponse_ReturnSetTopLists() {
-        assertThat(topListService.putTopLists(KEYWORDS, RATING_9, VOTE_COUNT, POPULARITY,
-                releaseYear, WINNING_MEDIA, MEDIA_1, BUDGET, REVENUE)).containsExactlyInAnyOrder(
-                TopLists.ICONIC_MOVIES_OF_THE_21ST_CENTURY,
-                TopLists.TOP_OSCAR_WINNING_MASTERPIECES,
-                TopLists.TOP_MOST_WATCHED_BLOCKBUSTERS_OF_THE_DECADE,
-                TopLists.TOP_100_SUPERHERO_MOVIES, TopLists.TOP_RATED_IMDB_MOVIES_OF_All_TIME);
+        assertThat(topListService.putTopLists(keywords, RATING_9, VOTE_COUNT, POPULARITY,
+                releaseYear, WINNING_MEDIA, ID, MEDIA_1, BUDGET, REVENUE))
+                .containsExactlyInAnyOrder(
+                        TopLists.ICONIC_MOVIES_OF_THE_21ST_CENTURY,
+                        TopLists.TOP_OSCAR_WINNING_MASTERPIECES,
+                        TopLists.TOP_MOST_WATCHED_BLOCKBUSTERS_OF_THE_DECADE,
+                        TopLists.TOP_100_SUPERHERO_MOVIES,
+                        TopLists.TOP_RATED_IMDB_MOVIES_OF_All_TIME);
     }
 
     @Test
     @DisplayName("Verify putTopListsForTvShow() method works")
     public void putTopListsForTvShow_ValidResponse_ReturnSetTopLists() {
-        assertThat(topListService.putTopListsForTvShow(KEYWORDS, RATING_9, VOTE_COUNT, POPULARITY,
-                releaseYear, WINNING_MEDIA, MEDIA_1)).containsExactlyInAnyOrder(
+        assertThat(topListService.putTopListsForTvShow(keywords, RATING_9, VOTE_COUNT, POPULARITY,
+                releaseYear, WINNING_MEDIA, ID, MEDIA_1)).containsExactlyInAnyOrder(
                 TopLists.ICONIC_MOVIES_OF_THE_21ST_CENTURY, TopLists.TOP_EMMY_WINNING_MASTERPIECES,
                 TopLists.TOP_MOST_WATCHED_BLOCKBUSTERS_OF_THE_DECADE,
                 TopLists.TOP_100_SUPERHERO_MOVIES, TopLists.TOP_RATED_IMDB_MOVIES_OF_All_TIME);
     }
+
+    @Test
+    @DisplayName("Verify putTopLists() method matches the superhero keyword at any position")
+    public void putTopLists_SuperheroNotFirstKeyword_ReturnSuperheroList() {
+        assertThat(topListService.putTopLists(
+                keywordDictionary.toIdSet(List.of("based on comic", "superhero")), RATING_9,
+                ZERO, ZERO, releaseYear, NO_AWARDS, ID, MEDIA_1, ZERO, 0L))
+                .containsExactly(TopLists.TOP_100_SUPERHERO_MOVIES);
+    }
+
+    @Test
+    @DisplayName("Verify putTopLists() method applies thresholds loaded from configuration")
+    public void putTopLists_ConfiguredThresholds_ReturnConfiguredLists() {
+        final TopListRulesProperties properties = new TopListRulesProperties();
+        properties.getTopRated().setMinRating(9.5);
+        properties.getBlockbusters().setMinRevenue(100_000_000L);
+        final TopListServiceImpl configuredService = new TopListServiceImpl(properties,
+                keywordDictionary);
+        assertThat(configuredService.putTopLists(new BitSet(), RATING_9, VOTE_COUNT, POPULARITY,
+                releaseYear, NO_AWARDS, ID, MEDIA_1, BUDGET, REVENUE))
+                .containsExactly(TopLists.ICONIC_MOVIES_OF_THE_21ST_CENTURY);
+    }
 }
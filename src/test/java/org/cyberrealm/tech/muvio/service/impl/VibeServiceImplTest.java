@@ -19,4 +19,21 @@ public class VibeServiceImplTest {
         assertThat(vibeService.getVibes(RATINGS, GENRES)).containsExactlyInAnyOrder(
                 Vibe.MAKE_ME_CHILL, Vibe.MAKE_ME_FEEL_GOOD);
     }
+
+    @Test
+    @DisplayName("Verify addScores() method accumulates genre and rating scores by ordinal")
+    public void addScores_GenresAndRatings_AccumulateScores() {
+        final int[] scores = new int[Vibe.values().length];
+        vibeService.addScores(Set.of("R", "UNKNOWN"), Set.of(GenreEntity.HORROR), scores);
+        vibeService.addScores(Set.of(), Set.of(GenreEntity.HORROR), scores);
+        assertThat(scores[Vibe.SCARY_ME_SILLY.ordinal()]).isEqualTo(20);
+        assertThat(scores[Vibe.BLOW_MY_MIND.ordinal()]).isEqualTo(6);
+        assertThat(vibeService.getVibes(scores)).containsExactly(Vibe.SCARY_ME_SILLY);
+    }
+
+    @Test
+    @DisplayName("Verify getVibes() method returns no vibes without known genres or ratings")
+    public void getVibes_NoKnownInput_ReturnEmptySet() {
+        assertThat(vibeService.getVibes(Set.of("UNKNOWN"), null)).isEmpty();
+    }
 }
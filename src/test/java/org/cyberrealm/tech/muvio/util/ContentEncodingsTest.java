@@ -0,0 +1,26 @@
+package org.cyberrealm.tech.muvio.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ContentEncodingsTest {
+    @Test
+    @DisplayName("Verify acceptsGzip() method accepts gzip codings with a positive q-value")
+    void acceptsGzip_positiveQuality_returnTrue() {
+        assertThat(ContentEncodings.acceptsGzip("br, GZIP;q=0.5")).isTrue();
+        assertThat(ContentEncodings.acceptsGzip("x-gzip")).isTrue();
+        assertThat(ContentEncodings.acceptsGzip("br, *;q=0.1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Verify acceptsGzip() method rejects missing, refused or unknown codings")
+    void acceptsGzip_refusedOrUnknownCoding_returnFalse() {
+        assertThat(ContentEncodings.acceptsGzip(null)).isFalse();
+        assertThat(ContentEncodings.acceptsGzip("gzip;q=0, x-gzip-foo")).isFalse();
+        assertThat(ContentEncodings.acceptsGzip("gzip;q=0, *")).isFalse();
+        assertThat(ContentEncodings.acceptsGzip("gzip;q=abc")).isFalse();
+        assertThat(ContentEncodings.acceptsGzip("*;q=0")).isFalse();
+    }
+}
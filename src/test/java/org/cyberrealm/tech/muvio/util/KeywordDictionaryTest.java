@@ -0,0 +1,24 @@
+package org.cyberrealm.tech.muvio.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class KeywordDictionaryTest {
+    private static final String SUPERHERO = "superhero";
+    private static final String UNKNOWN = "unknown";
+
+    private final KeywordDictionary keywordDictionary = new KeywordDictionary();
+
+    @Test
+    @DisplayName("Verify toIdSet() method sets ids for registered keywords only")
+    void toIdSet_registeredAndUnknownKeywords_returnRegisteredIds() {
+        final int id = keywordDictionary.register(SUPERHERO);
+        assertThat(keywordDictionary.toIdSet(Arrays.asList(SUPERHERO, UNKNOWN, null)).stream()
+                .boxed().toList()).isEqualTo(List.of(id));
+        assertThat(keywordDictionary.register(SUPERHERO)).isEqualTo(id);
+    }
+}